@@ -0,0 +1,61 @@
+package com.kimgreen.backend.domain.community.service;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.AnonymousAWSCredentials;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getFullUrl 비교 : SDK getUrl vs 미리 계산한 S3UrlTemplate
+ * 네트워크 호출 없이 URL 생성 비용만 측정 (./gradlew jmh)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class S3UrlBenchmark {
+
+    private static final String BUCKET = "kimgreen-bucket";
+
+    private AmazonS3 amazonS3;
+    private S3UrlTemplate urlTemplate;
+
+    //실제 key 모양 : UUID + 확장자, 한글 파일명
+    private String uuidKey;
+    private String koreanKey;
+
+    @Setup
+    public void setUp() {
+        amazonS3 = AmazonS3ClientBuilder.standard()
+                .withRegion("ap-northeast-2")
+                .withCredentials(new AWSStaticCredentialsProvider(new AnonymousAWSCredentials()))
+                .build();
+        String probeUrl = amazonS3.getUrl(BUCKET, "probe").toString();
+        urlTemplate = new S3UrlTemplate(probeUrl.substring(0, probeUrl.length() - "probe".length()));
+        uuidKey = UUID.randomUUID() + ".jpg";
+        koreanKey = "프로필 이미지.png";
+    }
+
+    @Benchmark
+    public String sdkGetUrl() {
+        return amazonS3.getUrl(BUCKET, uuidKey).toString();
+    }
+
+    @Benchmark
+    public String template() {
+        return urlTemplate.url(uuidKey);
+    }
+
+    @Benchmark
+    public String sdkGetUrlEncoded() {
+        return amazonS3.getUrl(BUCKET, koreanKey).toString();
+    }
+
+    @Benchmark
+    public String templateEncoded() {
+        return urlTemplate.url(koreanKey);
+    }
+}
@@ -36,6 +36,7 @@ public class JwtFilter extends OncePerRequestFilter {
             ,"/auth/sign-up"
             ,"/auth/log-in"
             ,"/auth/reissue"
+            ,"/storage/"
     };
 
     @Override
@@ -36,6 +36,7 @@ public class SecurityConfig {
             ,"/auth/sign-up"
             ,"/auth/log-in"
             ,"/auth/reissue"
+            ,"/storage/**"
     };
     private final static String[] AUTH_WHITE_LIST = {
             "/swagger-ui/index.html"
@@ -46,6 +47,7 @@ public class SecurityConfig {
             ,"/auth/sign-up"
             ,"/auth/log-in"
             ,"/auth/reissue"
+            ,"/storage/**"
     };
 
     private final JwtProvider jwtProvider;
@@ -0,0 +1,79 @@
+package com.kimgreen.backend.domain.community.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kimgreen.backend.domain.community.dto.GetPostInfoResponseDto;
+import com.kimgreen.backend.domain.community.event.CommentChangedEvent;
+import com.kimgreen.backend.domain.community.event.PostDeletedEvent;
+import com.kimgreen.backend.domain.community.event.PostLikedEvent;
+import com.kimgreen.backend.domain.community.event.PostSavedEvent;
+import com.kimgreen.backend.domain.member.event.MemberProfileChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 캐시 : 보는 사람과 상관없는 부분만 저장 (isLiked / isMine 은 요청마다 덮어씀)
+ * 게시글 수정/삭제, 좋아요, 댓글, 작성자 프로필 변경 이벤트가 커밋된 뒤 해당 항목을 지운다.
+ * 적중/실패 수는 actuator metrics 의 cache.gets{cache=post.detail} 로 확인
+ */
+@Component
+public class PostDetailCache {
+
+    private final Cache<Long, Entry> cache;
+
+    public PostDetailCache(MeterRegistry meterRegistry,
+                           @Value("${post.cache.detail.maximum-size:10000}") long maximumSize,
+                           @Value("${post.cache.detail.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "post.detail");
+    }
+
+    public Entry get(Long postId, Function<Long, Entry> loader) {
+        return cache.get(postId, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostSaved(PostSavedEvent event) {
+        cache.invalidate(event.getPostId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        cache.invalidate(event.getPostId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostLiked(PostLikedEvent event) {
+        cache.invalidate(event.getPostId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        cache.invalidate(event.getPostId());
+    }
+
+    //작성자 정보가 바뀌면 그 회원의 글 전체를 지움 (드문 변경이라 캐시 전체를 훑음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberProfileChanged(MemberProfileChangedEvent event) {
+        cache.asMap().values().removeIf(entry -> entry.getWriterId().equals(event.getMemberId()));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final GetPostInfoResponseDto detail;
+        private final Long writerId;
+    }
+}
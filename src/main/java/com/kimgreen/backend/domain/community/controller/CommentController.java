@@ -41,8 +41,14 @@ public class CommentController {
     @Operation(summary = "댓글 목록 불러오기")
     @ResponseStatus(OK)
     @GetMapping()
-    public Response getComment(@RequestParam("postId") Long postId){
-        List <GetCommentDto> commentList = commentService.getComment(postId);
-        return success(GET_COMMENT_SUCCESS, commentList);
+    public Response getComment(@RequestParam("postId") Long postId,
+                               @RequestParam(name="cursor", required = false) String cursor,
+                               @RequestParam(name="size", required = false) Integer size){
+        //cursor, size 둘 다 없으면 기존처럼 전체 목록 반환
+        if (cursor == null && size == null) {
+            List <GetCommentDto> commentList = commentService.getComment(postId);
+            return success(GET_COMMENT_SUCCESS, commentList);
+        }
+        return success(GET_COMMENT_SUCCESS, commentService.getCommentPage(postId, cursor, size));
     }
 }
\ No newline at end of file
@@ -4,15 +4,20 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.kimgreen.backend.domain.community.dto.GetPostInfoRequestDto;
 import com.kimgreen.backend.domain.community.dto.WritePostRequestDto;
 import com.kimgreen.backend.domain.community.entity.Category;
+import com.kimgreen.backend.domain.community.ranking.LeaderboardType;
 import com.kimgreen.backend.domain.member.entity.Member;
 import com.kimgreen.backend.domain.member.service.MemberService;
 import com.kimgreen.backend.domain.community.service.PostService;
 import com.kimgreen.backend.domain.profile.repository.BadgeRepository;
+import com.kimgreen.backend.response.ContentVersions;
 import com.kimgreen.backend.response.Response;
+import com.kimgreen.backend.response.StreamingResponseWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import com.kimgreen.backend.domain.community.entity.*;
 
@@ -33,12 +38,14 @@ public class PostController {
     private final PostService postService;
     private final MemberService memberService;
     private final BadgeRepository badgeRepository;
+    private final ContentVersions contentVersions;
+    private final StreamingResponseWriter streamingResponseWriter;
 
     @Operation(summary = "게시글 작성(인증)")
     @ResponseStatus(OK)
     @PostMapping(path="/check", consumes = MULTIPART_FORM_DATA_VALUE)
     public Response writeCheckPost(@RequestPart(name = "jsonData") WritePostRequestDto writePostRequestDto,
-                                   @RequestPart(name = "File") MultipartFile multipartFile) throws IOException { //파일 필수 O
+                                   @RequestPart(name = "File", required = false) MultipartFile multipartFile) throws IOException { //파일 또는 jsonData.uploadTicket 필수
         postService.writeCheckPost(writePostRequestDto, multipartFile, memberService.getCurrentMember());
         return success(WRITE_CERTIFY_POST_SUCCESS);
     }
@@ -52,28 +59,43 @@ public class PostController {
         return success(WRITE_DAILY_POST_SUCCESS);
     }
 
+    //If-None-Match 가 현재 버전과 같으면 본문 없이 304 (상태코드를 직접 정하므로 @ResponseStatus 없음)
     @Operation(summary = "게시글 상세 보기")
-    @ResponseStatus(OK)
     @GetMapping()
-    public Response getPostInfo(@RequestParam(name="postId") Long postId){
+    public Response getPostInfo(@RequestParam(name="postId") Long postId, WebRequest webRequest){
+        if (webRequest.checkNotModified(contentVersions.postETag(postId))) {
+            return null;
+        }
         return success(GET_POST_SUCCESS, postService.getPostInfo(postId));
     }
 
     @Operation(summary = "게시글 목록 불러오기")
-    @ResponseStatus(OK)
     @GetMapping("/list")
     public Response getPostList(@RequestParam(name="category", required = false) Category category,
                                 @RequestParam(name="tag", required = false) com.kimgreen.backend.domain.community.entity.Tag tag,
-                                @RequestParam(name="search", required = false) String search) {
-        return success(GET_POST_LIST_SUCCESS, postService.getPostlist(category, tag, search));
+                                @RequestParam(name="search", required = false) String search,
+                                @RequestParam(name="cursor", required = false) String cursor,
+                                @RequestParam(name="size", required = false) Integer size,
+                                WebRequest webRequest, HttpServletResponse response) throws IOException {
+        if (webRequest.checkNotModified(contentVersions.feedETag())) {
+            return null;
+        }
+        //cursor, size 둘 다 없으면 기존처럼 전체 목록 반환 (응답에 바로 씀)
+        if (cursor == null && size == null) {
+            streamingResponseWriter.success(response, GET_POST_LIST_SUCCESS, postService.streamPostlist(category, tag, search));
+            return null;
+        }
+        return success(GET_POST_LIST_SUCCESS, postService.getPostPage(category, tag, search, cursor, size));
     }
 
     @JsonIgnore
     @Operation(summary = "게시글 좋아요 상위목록 불러오기")
     @ResponseStatus(OK)
     @GetMapping("/best")
-    public Response getBestPostList() {
-        return Response.success(GET_BEST_POST_LIST_SUCCESS, postService.getBestPostList());
+    public Response getBestPostList(@RequestParam(name="type", required = false) LeaderboardType type,
+                                    @RequestParam(name="category", required = false) Category category,
+                                    @RequestParam(name="size", required = false) Integer size) {
+        return Response.success(GET_BEST_POST_LIST_SUCCESS, postService.getBestPostList(type, category, size));
     }
 
     @Operation(summary = "게시글 삭제하기")
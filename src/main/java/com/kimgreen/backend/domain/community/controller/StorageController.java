@@ -0,0 +1,107 @@
+package com.kimgreen.backend.domain.community.controller;
+
+import com.kimgreen.backend.domain.community.storage.LocalObjectStorage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+//storage.type=local 일 때 저장된 이미지를 내려주고 (Range 요청 지원), 서명된 주소로 직접 업로드를 받음
+@Tag(name = "Storage")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(value = "/storage")
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class StorageController {
+
+    private static final String PREFIX = "/storage/";
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @Operation(summary = "로컬 저장소 파일 조회")
+    @GetMapping("/**")
+    public void getObject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = URL_PATH_HELPER.getPathWithinApplication(request).substring(PREFIX.length());
+
+        try (FileChannel file = localObjectStorage.open(key)) {
+            long length = file.size();
+            long start = 0;
+            long end = length - 1;
+
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setContentType(MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+
+            //범위가 하나일 때만 206, 여러 개거나 형식이 틀리면 전체를 내려줌
+            List<HttpRange> ranges = parseRanges(request.getHeader(HttpHeaders.RANGE));
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+                //HttpRange 는 시작 위치가 파일 밖이어도 예외를 내지 않으므로 직접 확인 (빈 파일이면 어떤 범위든 416)
+                if (start >= length) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+
+            long remaining = end - start + 1;
+            response.setContentLengthLong(remaining);
+            //응답 스트림은 컨테이너가 닫음
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            while (remaining > 0) {
+                long written = file.transferTo(start, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                start += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    @Operation(summary = "로컬 저장소 직접 업로드 (업로드 티켓의 uploadUrl)")
+    @PutMapping("/**")
+    public void putObject(@RequestParam(name = "expires") long expires,
+                          @RequestParam(name = "signature") String signature,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = URL_PATH_HELPER.getPathWithinApplication(request).substring(PREFIX.length());
+        if (!localObjectStorage.isValidUpload(key, expires, signature)) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        try (InputStream inputStream = request.getInputStream()) {
+            localObjectStorage.put(key, inputStream, request.getContentLengthLong(), request.getContentType());
+        }
+        response.setStatus(HttpStatus.OK.value());
+    }
+
+    private List<HttpRange> parseRanges(String header) {
+        if (header == null) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.kimgreen.backend.domain.community.controller;
+
+import com.kimgreen.backend.domain.community.dto.UploadTicketRequestDto;
+import com.kimgreen.backend.domain.community.service.UploadTicketService;
+import com.kimgreen.backend.domain.member.service.MemberService;
+import com.kimgreen.backend.response.Response;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import static com.kimgreen.backend.response.Message.UPLOAD_TICKET_SUCCESS;
+import static com.kimgreen.backend.response.Response.success;
+import static org.springframework.http.HttpStatus.OK;
+
+@Tag(name = "Upload")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(value = "/upload")
+public class UploadController {
+
+    private final UploadTicketService uploadTicketService;
+    private final MemberService memberService;
+
+    //발급받은 uploadUrl 로 이미지를 PUT 한 뒤, 게시글 작성(jsonData.uploadTicket) 또는 프로필 변경에 티켓을 넘김
+    @Operation(summary = "직접 업로드 티켓 발급")
+    @ResponseStatus(OK)
+    @PostMapping("/ticket")
+    public Response issueUploadTicket(@RequestBody UploadTicketRequestDto uploadTicketRequestDto) {
+        return success(UPLOAD_TICKET_SUCCESS, uploadTicketService.issue(uploadTicketRequestDto, memberService.getCurrentMember()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.kimgreen.backend.domain.community.dto;
+
+import com.kimgreen.backend.exception.InvalidCursor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+//댓글 목록 커서 : 마지막으로 받은 commentId 를 base64url 로 감싼 opaque 문자열 (댓글은 작성 순)
+@Getter
+@AllArgsConstructor
+public class CommentCursor {
+    private Long commentId;
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(commentId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    //cursor가 없으면 첫 페이지
+    public static CommentCursor decode(String cursor) {
+        if(cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new CommentCursor(Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursor();
+        }
+    }
+}
@@ -8,8 +8,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.format.DateTimeFormatter;
+
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 @JsonInclude
@@ -28,7 +30,27 @@ public class GetPostInfoResponseDto {
         private Boolean isMine;
         private String updatedAt;
 
+        private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
         public void setImgUrl(String fullUrl) {
                 this.imgUrl = fullUrl;
         }
+
+        public static GetPostInfoResponseDto from(PostRowDto row, String writerProfileImg, String imgUrl, boolean isLiked, boolean isMine) {
+                return GetPostInfoResponseDto.builder()
+                        .writerNickname(row.getWriterNickname())
+                        .writerBadge(row.getWriterBadge() == null ? "" : row.getWriterBadge().name)
+                        .writerProfileImg(writerProfileImg)
+                        .imgUrl(imgUrl)
+                        .content(row.getContent())
+                        .postId(row.getPostId())
+                        .category(row.getCategory().toString())
+                        .tag(row.getTag().toString())
+                        .likeCount(row.getLikeCount())
+                        .commentCount(row.getCommentCount())
+                        .isLiked(isLiked)
+                        .isMine(isMine)
+                        .updatedAt(row.getModifiedAt().format(DATE_FORMATTER))
+                        .build();
+        }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.kimgreen.backend.domain.community.dto;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+//현재 회원이 좋아요 누른 게시글 id 집합 : 정렬된 long[] 에서 이진 탐색 (Long boxing 없음)
+public class LikedPostIds {
+
+    private static final LikedPostIds EMPTY = new LikedPostIds(new long[0]);
+
+    private final long[] sortedIds;
+
+    private LikedPostIds(long[] sortedIds) {
+        this.sortedIds = sortedIds;
+    }
+
+    public static LikedPostIds empty() {
+        return EMPTY;
+    }
+
+    public static LikedPostIds of(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return EMPTY;
+        }
+        long[] ids = new long[postIds.size()];
+        int i = 0;
+        for (Long postId : postIds) {
+            ids[i++] = postId;
+        }
+        Arrays.sort(ids);
+        return new LikedPostIds(ids);
+    }
+
+    public boolean contains(long postId) {
+        return Arrays.binarySearch(sortedIds, postId) >= 0;
+    }
+}
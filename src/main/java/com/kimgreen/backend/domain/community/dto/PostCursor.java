@@ -0,0 +1,49 @@
+package com.kimgreen.backend.domain.community.dto;
+
+import com.kimgreen.backend.exception.InvalidCursor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서 : (createdAt, postId) 를 base64url 로 감싼 opaque 문자열
+ * createdAt 이 분 단위로 저장되기 때문에 postId 로 동률을 끊어준다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+    private static final String DELIMITER = "_";
+
+    private LocalDateTime createdAt;
+    private Long postId;
+
+    public static PostCursor from(PostRowDto row) {
+        return new PostCursor(row.getCreatedAt(), row.getPostId());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    //cursor가 없으면 첫 페이지
+    public static PostCursor decode(String cursor) {
+        if(cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if(index < 0) {
+                throw new InvalidCursor();
+            }
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursor();
+        }
+    }
+}
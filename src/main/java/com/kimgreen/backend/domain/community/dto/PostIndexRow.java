@@ -0,0 +1,21 @@
+package com.kimgreen.backend.domain.community.dto;
+
+import com.kimgreen.backend.domain.community.entity.Category;
+import com.kimgreen.backend.domain.community.entity.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//서버 시작 시 검색 색인/인기글 순위표를 만들 때 읽는 최소 컬럼
+@Getter
+@AllArgsConstructor
+public class PostIndexRow {
+    private Long postId;
+    private Long writerId;
+    private String content;
+    private Category category;
+    private Tag tag;
+    private LocalDateTime createdAt;
+    private int likeCount;
+}
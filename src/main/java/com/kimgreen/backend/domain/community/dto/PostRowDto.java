@@ -0,0 +1,42 @@
+package com.kimgreen.backend.domain.community.dto;
+
+import com.kimgreen.backend.domain.BadgeList;
+import com.kimgreen.backend.domain.community.entity.Category;
+import com.kimgreen.backend.domain.community.entity.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 projection : 게시글 + 작성자 + 이미지 + 뱃지 + 카운트를 한 번의 join 쿼리로 읽는다.
+ * 이미지 값들은 S3 key 그대로이므로 응답 전에 getFullUrl 로 변환해야 함
+ */
+@Getter
+@AllArgsConstructor
+public class PostRowDto {
+    private Long postId;
+    private String content;
+    private Category category;
+    private Tag tag;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    private Long writerId;
+    private String writerNickname;
+    private String writerProfileImg;
+    private String writerProfileThumbnail;
+    private BadgeList writerBadge;
+    private String imgUrl;
+    private String imgThumbnail;
+    private int likeCount;
+    private int commentCount;
+
+    //목록 화면용 : 썸네일이 있으면 썸네일, 없으면 원본
+    public String getListWriterProfileImg() {
+        return writerProfileThumbnail != null ? writerProfileThumbnail : writerProfileImg;
+    }
+
+    public String getListImgUrl() {
+        return imgThumbnail != null ? imgThumbnail : imgUrl;
+    }
+}
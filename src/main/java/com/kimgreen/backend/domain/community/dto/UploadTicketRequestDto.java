@@ -0,0 +1,17 @@
+package com.kimgreen.backend.domain.community.dto;
+
+import com.kimgreen.backend.domain.community.entity.UploadPurpose;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadTicketRequestDto {
+    private UploadPurpose purpose;
+    private String fileName;
+    private String contentType;
+    //올릴 파일 크기 (byte)
+    private long size;
+}
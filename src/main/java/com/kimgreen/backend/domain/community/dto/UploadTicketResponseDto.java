@@ -0,0 +1,19 @@
+package com.kimgreen.backend.domain.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadTicketResponseDto {
+    private String uploadTicket;
+    //이 주소로 Content-Type 을 맞춰서 PUT
+    private String uploadUrl;
+    private LocalDateTime expiresAt;
+}
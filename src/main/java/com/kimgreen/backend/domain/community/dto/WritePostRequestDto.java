@@ -14,6 +14,8 @@ import lombok.NoArgsConstructor;
 public class WritePostRequestDto {
     private String category;
     private String content;
+    //직접 업로드한 경우 (파일 대신)
+    private String uploadTicket;
 
     public Post toCertifyPostEntity(String category, String content, Member member) {
         return Post.builder()
@@ -13,6 +13,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Entity
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_comment_post", columnList = "post_id, comment_id"),
+        @Index(name = "idx_comment_member", columnList = "writer_id, comment_id")
+})
 public class Comment extends AuditEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
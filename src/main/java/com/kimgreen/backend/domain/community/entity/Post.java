@@ -8,7 +8,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.Formula;
 
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -19,6 +18,11 @@ import java.util.List;
 @AllArgsConstructor
 @Entity
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_post_created_at", columnList = "created_at, post_id"),
+        @Index(name = "idx_post_writer_created_at", columnList = "writer_id, created_at, post_id"),
+        @Index(name = "idx_post_like_count", columnList = "like_count")
+})
 public class Post extends AuditEntity {
 
     @Id
@@ -51,8 +55,11 @@ public class Post extends AuditEntity {
     private Tag tag;
 
 
-    @Formula("(SELECT COUNT(*) FROM likes l WHERE l.post_id = post_id)")
+    //좋아요/댓글 수 : 쓰기 시점에 SQL로 증감 (PostRepository), 엔티티 update 시에는 덮어쓰지 않음
+    @Column(name="like_count", columnDefinition = "int default 0", updatable = false)
     private int likeCount;
+    @Column(name="comment_count", columnDefinition = "int default 0", updatable = false)
+    private int commentCount;
 
     public void update(String category, String content) {
         this.category = Category.valueOf(category);
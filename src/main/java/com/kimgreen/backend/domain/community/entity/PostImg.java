@@ -24,4 +24,7 @@ public class PostImg extends AuditEntity {
     private String imgUrl;
     @Column(name="title", nullable = false)
     private String title;
+    //목록용 썸네일 key (생성 전이거나 실패하면 null)
+    @Column(name="thumbnail_url")
+    private String thumbnailUrl;
 }
@@ -0,0 +1,32 @@
+package com.kimgreen.backend.domain.community.entity;
+
+import com.kimgreen.backend.domain.AuditEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+//삭제할 S3 객체 : 삭제를 요청한 트랜잭션과 같이 저장되고, 커밋 후 worker 가 모아서 지운다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Builder
+@Table(name = "s3_deletion_queue",
+        indexes = @Index(name = "idx_s3_deletion_next_attempt", columnList = "next_attempt_at"))
+public class S3DeletionTask extends AuditEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "deletion_id")
+    private Long deletionId;
+
+    @Column(name = "object_key", nullable = false)
+    private String objectKey;
+
+    //실패 횟수
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+}
@@ -0,0 +1,53 @@
+package com.kimgreen.backend.domain.community.entity;
+
+import com.kimgreen.backend.domain.AuditEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+//내용(SHA-256) 기준으로 저장한 이미지 : 같은 내용은 한 번만 올리고, 참조(PostImg / MemberProfileImg) 수를 센다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Builder
+@Table(name = "stored_object", indexes = @Index(name = "idx_stored_object_sha256", columnList = "sha256"))
+public class StoredObject extends AuditEntity {
+
+    private static final int HASH_LENGTH = 64;
+
+    //{sha256}.{확장자}
+    @Id
+    @Column(name = "object_key", length = 100)
+    private String objectKey;
+
+    @Column(name = "sha256", nullable = false, length = HASH_LENGTH)
+    private String sha256;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    //저장소에 업로드가 끝났는지
+    @Column(name = "stored", nullable = false)
+    private boolean stored;
+
+    //삭제 worker 가 지우는 중 : 끝날 때까지 같은 내용을 새로 올리지 않음 (S3Service.store 가 기다림)
+    @Column(name = "deleting", nullable = false, columnDefinition = "boolean default false")
+    private boolean deleting;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    //원본/썸네일 key 에서 내용 해시를 꺼냄 - 예전 UUID key 면 null
+    public static String hashOf(String key) {
+        if (key.length() < HASH_LENGTH) {
+            return null;
+        }
+        for (int i = 0; i < HASH_LENGTH; i++) {
+            char c = key.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return null;
+            }
+        }
+        return key.substring(0, HASH_LENGTH);
+    }
+}
@@ -0,0 +1,6 @@
+package com.kimgreen.backend.domain.community.entity;
+
+//업로드 티켓을 쓸 곳
+public enum UploadPurpose {
+    POST, PROFILE
+}
@@ -0,0 +1,40 @@
+package com.kimgreen.backend.domain.community.entity;
+
+import com.kimgreen.backend.domain.AuditEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+//직접 업로드 티켓 : 클라이언트가 presigned URL 로 올린 뒤 게시글/프로필 저장 때 사용하면 삭제된다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Builder
+@Table(name = "upload_ticket", indexes = @Index(name = "idx_upload_ticket_expires_at", columnList = "expires_at"))
+public class UploadTicket extends AuditEntity {
+    @Id
+    @Column(name = "ticket_id", length = 36)
+    private String ticketId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "purpose", nullable = false)
+    private UploadPurpose purpose;
+
+    @Column(name = "object_key", nullable = false)
+    private String objectKey;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    //신청한 크기 : 실제 올라온 파일이 이보다 크면 거부
+    @Column(name = "max_size", nullable = false)
+    private long maxSize;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,22 @@
+package com.kimgreen.backend.domain.community.event;
+
+import com.kimgreen.backend.domain.community.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//댓글 작성/삭제 후 발행 : writerId 는 댓글 작성자
+//postWriterId, postCreatedAt : 글이 들어 있는 달력 항목 (회원, 날짜) 을 찾는 데 씀
+@Getter
+@AllArgsConstructor
+public class CommentChangedEvent {
+    private Long postId;
+    private Long writerId;
+    private Long postWriterId;
+    private LocalDateTime postCreatedAt;
+
+    public static CommentChangedEvent of(Post post, Long writerId) {
+        return new CommentChangedEvent(post.getPostId(), writerId, post.getMember().getMemberId(), post.getCreatedAt());
+    }
+}
@@ -0,0 +1,17 @@
+package com.kimgreen.backend.domain.community.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//댓글 작성 후 발행 (댓글 알림용)
+@Getter
+@AllArgsConstructor
+public class CommentCreatedEvent {
+    private Long commentId;
+    private Long postId;
+    private Long writerId;
+    private String writerEmail;
+    //게시글 작성자 = 알림 받을 사람
+    private Long postWriterId;
+    private String content;
+}
@@ -0,0 +1,16 @@
+package com.kimgreen.backend.domain.community.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//게시글/프로필 이미지 원본이 S3에 올라간 뒤 발행 : 커밋 후 썸네일 생성
+@Getter
+@AllArgsConstructor
+public class ImageStoredEvent {
+    public enum Type { POST, PROFILE }
+
+    private Type type;
+    //PostImg.postImgId 또는 MemberProfileImg.profileImgId
+    private Long imageId;
+    private String key;
+}
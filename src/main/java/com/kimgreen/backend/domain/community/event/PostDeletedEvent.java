@@ -0,0 +1,20 @@
+package com.kimgreen.backend.domain.community.event;
+
+import com.kimgreen.backend.domain.community.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//게시글 삭제 후 발행
+@Getter
+@AllArgsConstructor
+public class PostDeletedEvent {
+    private Long postId;
+    private Long writerId;
+    private LocalDateTime createdAt;
+
+    public static PostDeletedEvent of(Post post) {
+        return new PostDeletedEvent(post.getPostId(), post.getMember().getMemberId(), post.getCreatedAt());
+    }
+}
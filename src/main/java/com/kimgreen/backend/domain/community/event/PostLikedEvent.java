@@ -0,0 +1,22 @@
+package com.kimgreen.backend.domain.community.event;
+
+import com.kimgreen.backend.domain.community.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//좋아요 누르기/취소 후 발행 : delta는 +1 또는 -1
+//postWriterId, postCreatedAt : 글이 들어 있는 달력 항목 (회원, 날짜) 을 찾는 데 씀
+@Getter
+@AllArgsConstructor
+public class PostLikedEvent {
+    private Long postId;
+    private int delta;
+    private Long postWriterId;
+    private LocalDateTime postCreatedAt;
+
+    public static PostLikedEvent of(Post post, int delta) {
+        return new PostLikedEvent(post.getPostId(), delta, post.getMember().getMemberId(), post.getCreatedAt());
+    }
+}
@@ -0,0 +1,26 @@
+package com.kimgreen.backend.domain.community.event;
+
+import com.kimgreen.backend.domain.community.entity.Category;
+import com.kimgreen.backend.domain.community.entity.Post;
+import com.kimgreen.backend.domain.community.entity.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//게시글 작성/수정 후 발행 : 커밋된 뒤에 검색 색인 등 메모리 구조를 갱신하는 데 사용
+@Getter
+@AllArgsConstructor
+public class PostSavedEvent {
+    private Long postId;
+    private Long writerId;
+    private String content;
+    private Category category;
+    private Tag tag;
+    private LocalDateTime createdAt;
+
+    public static PostSavedEvent of(Post post) {
+        return new PostSavedEvent(post.getPostId(), post.getMember().getMemberId(), post.getContent(),
+                post.getCategory(), post.getTag(), post.getCreatedAt());
+    }
+}
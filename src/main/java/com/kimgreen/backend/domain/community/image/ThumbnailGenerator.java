@@ -0,0 +1,151 @@
+package com.kimgreen.backend.domain.community.image;
+
+import com.kimgreen.backend.domain.community.entity.StoredObject;
+import com.kimgreen.backend.domain.community.event.ImageStoredEvent;
+import com.kimgreen.backend.domain.community.repository.PostImgRepository;
+import com.kimgreen.backend.domain.community.storage.ObjectStorage;
+import com.kimgreen.backend.domain.member.repository.MemberProfileImgRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록용 썸네일 생성 : 원본 업로드가 커밋된 뒤 별도 스레드에서 저장소의 원본을 읽어 줄이고 JPEG 로 다시 압축해서
+ * 원본 옆에 {원본이름}_thumb.jpg 로 저장하고 PostImg / MemberProfileImg 에 key 를 기록한다.
+ * 큐가 가득 차거나 변환에 실패하면 썸네일 없이 원본을 그대로 사용
+ */
+@Slf4j
+@Component
+public class ThumbnailGenerator {
+
+    private static final String THUMBNAIL_SUFFIX = "_thumb.jpg";
+
+    private final ObjectStorage objectStorage;
+    private final PostImgRepository postImgRepository;
+    private final MemberProfileImgRepository memberProfileImgRepository;
+    private final int maxWidth;
+    private final float quality;
+    private final ThreadPoolExecutor executor;
+
+    public ThumbnailGenerator(ObjectStorage objectStorage,
+                              PostImgRepository postImgRepository,
+                              MemberProfileImgRepository memberProfileImgRepository,
+                              @Value("${image.thumbnail.max-width:480}") int maxWidth,
+                              @Value("${image.thumbnail.quality:0.8}") float quality,
+                              @Value("${image.thumbnail.threads:2}") int threads,
+                              @Value("${image.thumbnail.queue-capacity:200}") int queueCapacity) {
+        this.objectStorage = objectStorage;
+        this.postImgRepository = postImgRepository;
+        this.memberProfileImgRepository = memberProfileImgRepository;
+        this.maxWidth = maxWidth;
+        this.quality = quality;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> log.warn("thumbnail queue is full, skip"));
+    }
+
+    public static String thumbnailKey(String key) {
+        int dot = key.lastIndexOf('.');
+        return (dot < 0 ? key : key.substring(0, dot)) + THUMBNAIL_SUFFIX;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageStored(ImageStoredEvent event) {
+        executor.execute(() -> generate(event));
+    }
+
+    private void generate(ImageStoredEvent event) {
+        try {
+            String thumbnailKey = createThumbnail(event.getKey());
+            if (thumbnailKey == null) {
+                return;
+            }
+            //그 사이 이미지가 바뀌었으면 기록하지 않음 (imgUrl 조건)
+            int updated = event.getType() == ImageStoredEvent.Type.POST
+                    ? postImgRepository.updateThumbnail(event.getImageId(), event.getKey(), thumbnailKey)
+                    : memberProfileImgRepository.updateThumbnail(event.getImageId(), event.getKey(), thumbnailKey);
+            //내용 기준 key 의 썸네일은 다른 이미지와 공유할 수 있어서 남겨둠
+            if (updated == 0 && !thumbnailKey.equals(event.getKey()) && StoredObject.hashOf(event.getKey()) == null) {
+                objectStorage.delete(thumbnailKey);
+            }
+        } catch (Exception e) {
+            log.warn("failed to create thumbnail of {}", event.getKey(), e);
+        }
+    }
+
+    //원본이 이미 충분히 작으면 원본 key 를 그대로 썸네일로 사용, 읽을 수 없는 형식이면 null
+    private String createThumbnail(String key) throws IOException {
+        BufferedImage original;
+        try (InputStream inputStream = objectStorage.get(key)) {
+            original = ImageIO.read(inputStream);
+        }
+        if (original == null) {
+            log.info("unsupported image format, skip thumbnail of {}", key);
+            return null;
+        }
+        if (original.getWidth() <= maxWidth) {
+            return key;
+        }
+
+        int height = Math.max(1, (int) Math.round((double) original.getHeight() * maxWidth / original.getWidth()));
+        BufferedImage resized = new BufferedImage(maxWidth, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            //투명 배경(PNG)은 흰색으로
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, maxWidth, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, maxWidth, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        byte[] jpeg = toJpeg(resized);
+        String thumbnailKey = thumbnailKey(key);
+        objectStorage.put(thumbnailKey, new ByteArrayInputStream(jpeg), jpeg.length, "image/jpeg");
+        return thumbnailKey;
+    }
+
+    private byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,6 @@
+package com.kimgreen.backend.domain.community.ranking;
+
+public enum LeaderboardType {
+    BEST,       //좋아요 수
+    TRENDING    //좋아요 수 + 최신성
+}
@@ -0,0 +1,320 @@
+package com.kimgreen.backend.domain.community.ranking;
+
+import com.kimgreen.backend.domain.community.dto.PostIndexRow;
+import com.kimgreen.backend.domain.community.entity.Category;
+import com.kimgreen.backend.domain.community.event.PostDeletedEvent;
+import com.kimgreen.backend.domain.community.event.PostLikedEvent;
+import com.kimgreen.backend.domain.community.event.PostSavedEvent;
+import com.kimgreen.backend.domain.community.repository.PostRepository;
+import com.kimgreen.backend.response.CursorPage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 인기 게시글 순위표
+ * 모든 글의 점수(id, 카테고리, 작성 시각, 좋아요 수)만 들고, 전체/카테고리별로 상위 몇 개만 정렬해 둔다. (본문은 들고 있지 않음)
+ * 좋아요/작성/수정/삭제 이벤트로 해당 게시글 한 건만 다시 넣고, 서버 시작 시 DB에서 다시 만든다.
+ *
+ * TRENDING 점수 = log2(1 + 좋아요 수) + (작성 시각 - 기준 시각) / 반감기
+ * 반감기만큼 늦게 쓴 글은 좋아요가 절반이어도 같은 점수 -> 시간이 지나도 순서가 바뀌지 않아 재계산이 필요 없음
+ */
+@Slf4j
+@Component
+public class PostLeaderboard {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final LocalDateTime SCORE_EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    //순위표마다 정렬해 두는 개수 : 조회 최대 개수의 2배, 위에서 빠져도 바로 다시 채우지 않아도 되게 여유를 둠
+    static final int TOP_CAPACITY = CursorPage.MAX_SIZE * 2;
+
+    private static final Comparator<Score> BY_LIKES =
+            Comparator.comparingInt(Score::getLikeCount).thenComparing(Score::getPostId).reversed();
+    private static final Comparator<Score> BY_TRENDING =
+            Comparator.comparingDouble(Score::getTrendingScore).thenComparing(Score::getPostId).reversed();
+
+    private final PostRepository postRepository;
+    private final long trendingHalfLifeHours;
+
+    private volatile Boards boards = new Boards();
+    private volatile boolean ready = false;
+
+    //다시 만드는 동안 바뀐 글 id (null 이면 만드는 중이 아님) : 이벤트 처리와 같은 lock(this) 으로 보호
+    private Set<Long> touchedWhileLoading;
+    private final Object rebuildLock = new Object();
+
+    public PostLeaderboard(PostRepository postRepository,
+                           @Value("${post.leaderboard.trending-half-life-hours:24}") long trendingHalfLifeHours) {
+        this.postRepository = postRepository;
+        this.trendingHalfLifeHours = trendingHalfLifeHours;
+    }
+
+    /**
+     * 새 순위표는 lock 밖에서 만들고 교체만 lock 안에서 한다. (그동안 이벤트는 기존 순위표에 바로 반영됨)
+     * 만드는 동안 바뀐 글은 delta 를 다시 적용하지 않고 DB에서 다시 읽어 덮어씀
+     * -> 이미 읽은 row 에 들어 있는 좋아요가 두 번 더해지지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                touchedWhileLoading = new HashSet<>();
+            }
+            Boards rebuilt = new Boards();
+            long lastId = 0L;
+            List<PostIndexRow> rows;
+            do {
+                rows = postRepository.findIndexRows(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (PostIndexRow row : rows) {
+                    rebuilt.load(score(row.getPostId(), row.getCategory(), row.getCreatedAt(), row.getLikeCount()));
+                }
+                if (!rows.isEmpty()) {
+                    lastId = rows.get(rows.size() - 1).getPostId();
+                }
+            } while (rows.size() == LOAD_CHUNK_SIZE);
+            rebuilt.fillTops();
+
+            while (true) {
+                Set<Long> touched;
+                synchronized (this) {
+                    if (touchedWhileLoading.isEmpty()) {
+                        boards = rebuilt;
+                        touchedWhileLoading = null;
+                        ready = true;
+                        break;
+                    }
+                    touched = touchedWhileLoading;
+                    touchedWhileLoading = new HashSet<>();
+                }
+                refresh(rebuilt, touched);
+            }
+            log.info("post leaderboard built : {} posts", rebuilt.scores.size());
+        }
+    }
+
+    //순위표가 준비되기 전에는 DB 정렬 조회를 사용
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @param category : null이면 전체
+     * @return 점수 내림차순 상위 limit개 (limit 은 CursorPage.MAX_SIZE 이하)
+     */
+    public List<Score> top(LeaderboardType type, Category category, int limit) {
+        Boards current = boards;
+        Top top = current.top(type, category);
+        if (top.needsRefill(limit)) {
+            synchronized (this) {
+                if (top.needsRefill(limit)) {
+                    current.refill(type, category);
+                }
+            }
+        }
+        List<Score> result = new ArrayList<>(limit);
+        //갱신 중인 글이 이전/새 점수 위치에 두 번 보일 수 있어서 걸러냄
+        Set<Long> seen = new HashSet<>();
+        for (Score score : top.sorted) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (seen.add(score.getPostId())) {
+                result.add(score);
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostLiked(PostLikedEvent event) {
+        touch(event.getPostId());
+        Score previous = boards.scores.get(event.getPostId());
+        if (previous != null) {
+            boards.put(score(previous.getPostId(), previous.getCategory(), previous.getCreatedAt(),
+                    Math.max(previous.getLikeCount() + event.getDelta(), 0)));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostSaved(PostSavedEvent event) {
+        touch(event.getPostId());
+        Score previous = boards.scores.get(event.getPostId());
+        int likeCount = previous == null ? 0 : previous.getLikeCount();
+        boards.put(score(event.getPostId(), event.getCategory(), event.getCreatedAt(), likeCount));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostDeleted(PostDeletedEvent event) {
+        touch(event.getPostId());
+        boards.remove(event.getPostId());
+    }
+
+    private void touch(Long postId) {
+        if (touchedWhileLoading != null) {
+            touchedWhileLoading.add(postId);
+        }
+    }
+
+    //새 순위표에 DB 의 현재 값을 덮어씀 (없어진 글은 제거) - 아직 교체 전이라 이 스레드만 씀
+    private void refresh(Boards rebuilt, Set<Long> postIds) {
+        Set<Long> missing = new HashSet<>(postIds);
+        for (PostIndexRow row : postRepository.findIndexRowsByIds(postIds)) {
+            missing.remove(row.getPostId());
+            rebuilt.put(score(row.getPostId(), row.getCategory(), row.getCreatedAt(), row.getLikeCount()));
+        }
+        missing.forEach(rebuilt::remove);
+    }
+
+    private Score score(Long postId, Category category, LocalDateTime createdAt, int likeCount) {
+        double ageSeconds = createdAt.atZone(ZoneId.systemDefault()).toEpochSecond()
+                - SCORE_EPOCH.atZone(ZoneId.systemDefault()).toEpochSecond();
+        double trendingScore = Math.log1p(likeCount) / Math.log(2) + ageSeconds / (trendingHalfLifeHours * 3600.0);
+        return new Score(postId, category, createdAt, likeCount, trendingScore);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Score {
+        private final Long postId;
+        private final Category category;
+        private final LocalDateTime createdAt;
+        private final int likeCount;
+        private final double trendingScore;
+    }
+
+    /**
+     * 순위표 하나의 상위 목록 : 항상 "그 순위표의 정확한 상위 sorted.size() 개" 를 들고 있음
+     * complete 면 해당하는 글 전부를 들고 있는 상태 (글 수가 TOP_CAPACITY 이하)
+     */
+    private static class Top {
+        private final ConcurrentSkipListSet<Score> sorted;
+        private volatile boolean complete = true;
+
+        Top(Comparator<Score> comparator) {
+            this.sorted = new ConcurrentSkipListSet<>(comparator);
+        }
+
+        //들고 있지 않은 글 중에 더 높은 점수가 있을 수 있으면 넣지 않음
+        void offer(Score score) {
+            if (!complete && (sorted.isEmpty() || sorted.comparator().compare(score, sorted.last()) > 0)) {
+                return;
+            }
+            sorted.add(score);
+            if (sorted.size() > TOP_CAPACITY) {
+                sorted.pollLast();
+                complete = false;
+            }
+        }
+
+        void remove(Score score) {
+            sorted.remove(score);
+        }
+
+        boolean needsRefill(int limit) {
+            return !complete && sorted.size() < limit;
+        }
+    }
+
+    //전체 + 카테고리별 순위표 묶음, 다시 만들 때 통째로 교체
+    private static class Boards {
+        private final Map<Long, Score> scores = new ConcurrentHashMap<>();
+        private final Map<LeaderboardType, Top> all = new EnumMap<>(LeaderboardType.class);
+        private final Map<LeaderboardType, Map<Category, Top>> byCategory = new EnumMap<>(LeaderboardType.class);
+
+        Boards() {
+            for (LeaderboardType type : LeaderboardType.values()) {
+                all.put(type, new Top(comparator(type)));
+                Map<Category, Top> categories = new EnumMap<>(Category.class);
+                for (Category category : Category.values()) {
+                    categories.put(category, new Top(comparator(type)));
+                }
+                byCategory.put(type, categories);
+            }
+        }
+
+        private static Comparator<Score> comparator(LeaderboardType type) {
+            return type == LeaderboardType.BEST ? BY_LIKES : BY_TRENDING;
+        }
+
+        Top top(LeaderboardType type, Category category) {
+            return category == null ? all.get(type) : byCategory.get(type).get(category);
+        }
+
+        //처음 적재 : 점수만 모아두고 fillTops 에서 한 번에 정렬
+        void load(Score score) {
+            scores.put(score.getPostId(), score);
+        }
+
+        void fillTops() {
+            for (LeaderboardType type : LeaderboardType.values()) {
+                refill(type, null);
+                for (Category category : Category.values()) {
+                    refill(type, category);
+                }
+            }
+        }
+
+        //점수 전체를 훑어 상위 TOP_CAPACITY 개를 다시 만듦 : 위에서 많이 빠졌을 때만 호출됨
+        void refill(LeaderboardType type, Category category) {
+            Comparator<Score> comparator = comparator(type);
+            PriorityQueue<Score> lowestFirst = new PriorityQueue<>(comparator.reversed());
+            int count = 0;
+            for (Score score : scores.values()) {
+                if (category != null && score.getCategory() != category) {
+                    continue;
+                }
+                count++;
+                lowestFirst.add(score);
+                if (lowestFirst.size() > TOP_CAPACITY) {
+                    lowestFirst.poll();
+                }
+            }
+            Top top = top(type, category);
+            top.sorted.clear();
+            top.sorted.addAll(lowestFirst);
+            top.complete = count <= TOP_CAPACITY;
+        }
+
+        //점수가 같으면 comparator상 같은 원소라서 이전 score를 먼저 빼고 넣음
+        void put(Score score) {
+            Score previous = scores.put(score.getPostId(), score);
+            if (previous != null) {
+                unlink(previous);
+            }
+            for (LeaderboardType type : LeaderboardType.values()) {
+                all.get(type).offer(score);
+                if (score.getCategory() != null) {
+                    byCategory.get(type).get(score.getCategory()).offer(score);
+                }
+            }
+        }
+
+        void remove(Long postId) {
+            Score previous = scores.remove(postId);
+            if (previous != null) {
+                unlink(previous);
+            }
+        }
+
+        private void unlink(Score score) {
+            for (LeaderboardType type : LeaderboardType.values()) {
+                all.get(type).remove(score);
+                if (score.getCategory() != null) {
+                    byCategory.get(type).get(score.getCategory()).remove(score);
+                }
+            }
+        }
+    }
+}
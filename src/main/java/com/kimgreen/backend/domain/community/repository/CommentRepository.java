@@ -2,6 +2,7 @@ package com.kimgreen.backend.domain.community.repository;
 
 import com.kimgreen.backend.domain.community.entity.Comment;
 import com.kimgreen.backend.domain.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,7 +12,23 @@ import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    @Query("select count(*) from Comment c join Post p on c.post.postId=p.postId where p.postId= :id")
-    public Long countComment(@Param("id") Long postId);
     List<Comment> findByMember(Member member);
+
+    //게시글의 댓글 : commentId 오름차순 (작성 순), 작성자 함께 조회. lastCommentId가 null이면 처음부터
+    @Query("select c from Comment c join fetch c.member" +
+            " where c.post.postId = :postId" +
+            " and (:lastCommentId is null or c.commentId > :lastCommentId)" +
+            " order by c.commentId")
+    List<Comment> findPostComments(@Param("postId") Long postId,
+                                   @Param("lastCommentId") Long lastCommentId,
+                                   Pageable pageable);
+
+    //회원이 쓴 댓글 : commentId 내림차순 (최신 순). lastCommentId가 null이면 처음부터
+    @Query("select c from Comment c" +
+            " where c.member.memberId = :memberId" +
+            " and (:lastCommentId is null or c.commentId < :lastCommentId)" +
+            " order by c.commentId desc")
+    List<Comment> findMemberComments(@Param("memberId") Long memberId,
+                                     @Param("lastCommentId") Long lastCommentId,
+                                     Pageable pageable);
 }
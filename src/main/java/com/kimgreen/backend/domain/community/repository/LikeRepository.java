@@ -8,12 +8,15 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LikeRepository extends JpaRepository<Likes, Long> {
-    @Query("select count(*) from Likes l join Post p on l.post.postId=p.postId where p.postId= :id")
-    public Long countLike(@Param("id") Long postId);
-
     public Optional<Likes> findByPostAndMember(Post post, Member member);
+
+    //목록 한 페이지에 대해 회원이 좋아요 누른 게시글 id만 한 번에 조회
+    @Query("select l.post.postId from Likes l where l.member.memberId = :memberId and l.post.postId in :postIds")
+    public List<Long> findLikedPostIds(@Param("memberId") Long memberId, @Param("postIds") Collection<Long> postIds);
 }
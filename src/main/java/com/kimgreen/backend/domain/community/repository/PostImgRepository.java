@@ -3,9 +3,19 @@ package com.kimgreen.backend.domain.community.repository;
 import com.kimgreen.backend.domain.community.entity.Post;
 import com.kimgreen.backend.domain.community.entity.PostImg;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface PostImgRepository extends JpaRepository<PostImg, Long> {
     public PostImg findByPost(Post post);
+
+    //썸네일 생성 스레드에서 호출 : 그 사이 이미지가 바뀌지 않았을 때만 기록
+    @Transactional
+    @Modifying
+    @Query("update PostImg pi set pi.thumbnailUrl = :thumbnailUrl where pi.postImgId = :id and pi.imgUrl = :imgUrl")
+    int updateThumbnail(@Param("id") Long postImgId, @Param("imgUrl") String imgUrl, @Param("thumbnailUrl") String thumbnailUrl);
 }
@@ -1,16 +1,21 @@
 package com.kimgreen.backend.domain.community.repository;
 
-import com.kimgreen.backend.domain.community.dto.GetPostInfoResponseDto;
+import com.kimgreen.backend.domain.community.dto.BestPostResponseDto;
+import com.kimgreen.backend.domain.community.dto.PostIndexRow;
+import com.kimgreen.backend.domain.community.dto.PostRowDto;
 import com.kimgreen.backend.domain.community.entity.Category;
 import com.kimgreen.backend.domain.community.entity.Post;
 import com.kimgreen.backend.domain.community.entity.Tag;
 import com.kimgreen.backend.domain.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,15 +23,107 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         @Query("select p from Post p where p.member.memberId= :id and p.createdAt between :start and :end")
         public List<Post> findAllBetweenDate(@Param("id") Long memberId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
         public List<Post> findAllByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
+
+        //달력 집계 백필 범위
+        @Query("select max(p.member.memberId) from Post p")
+        Long findMaxWriterId();
         List<Post> findByMember(Member member);
 
-        public List<Post> findTop3ByOrderByLikeCountDesc();
-        List<Post> findByContentContaining(String content);
-        List<Post> findByTagAndContentContaining(Tag tag, String content);
-        List<Post> findByCategoryAndContentContaining(Category category, String content);
-        List<Post> findByCategoryAndTagAndContentContaining(Category category, Tag tag,String content);
-        List<Post> findByTag(Tag tag);
-        List<Post> findByCategory(Category category);
-        List<Post> findByCategoryAndTag(Category category, Tag tag);
+        //인기글 순위표가 준비되기 전에 사용
+        @Query("select p from Post p where (:category is null or p.category = :category)" +
+                " order by p.likeCount desc, p.postId desc")
+        List<Post> findBestPosts(@Param("category") Category category, Pageable pageable);
+
+        //목록 row projection : 작성자/이미지/뱃지/카운트까지 한 번의 쿼리로 읽어 목록 N+1을 없앰
+        String POST_ROW_SELECT = "select new com.kimgreen.backend.domain.community.dto.PostRowDto(" +
+                " p.postId, p.content, p.category, p.tag, p.createdAt, p.modifiedAt," +
+                " m.memberId, m.nickname, mpi.imgUrl, mpi.thumbnailUrl, rb.representativeBadge, pi.imgUrl, pi.thumbnailUrl," +
+                " p.likeCount, p.commentCount)" +
+                " from Post p join p.member m" +
+                " left join p.postImg pi" +
+                " left join MemberProfileImg mpi on mpi.member = m" +
+                " left join RepresentativeBadge rb on rb.member = m";
+
+        //커서 기반 게시글 목록 : (createdAt, postId) 내림차순, cursor가 null이면 첫 페이지
+        //search는 검색 색인이 준비되기 전에만 사용
+        @Query(POST_ROW_SELECT +
+                " where (:category is null or p.category = :category)" +
+                " and (:tag is null or p.tag = :tag)" +
+                " and (:search is null or p.content like concat('%', :search, '%'))" +
+                " and (:cursorCreatedAt is null or p.createdAt < :cursorCreatedAt" +
+                " or (p.createdAt = :cursorCreatedAt and p.postId < :cursorPostId))" +
+                " order by p.createdAt desc, p.postId desc")
+        List<PostRowDto> findFeedRows(@Param("category") Category category,
+                                      @Param("tag") Tag tag,
+                                      @Param("search") String search,
+                                      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                      @Param("cursorPostId") Long cursorPostId,
+                                      Pageable pageable);
+
+        //특정 회원이 쓴 글 (프로필 글 목록) : (writer_id, created_at, post_id) 인덱스 범위만 읽음
+        @Query(POST_ROW_SELECT +
+                " where p.member.memberId = :writerId" +
+                " and (:cursorCreatedAt is null or p.createdAt < :cursorCreatedAt" +
+                " or (p.createdAt = :cursorCreatedAt and p.postId < :cursorPostId))" +
+                " order by p.createdAt desc, p.postId desc")
+        List<PostRowDto> findWriterRows(@Param("writerId") Long writerId,
+                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                        @Param("cursorPostId") Long cursorPostId,
+                                        Pageable pageable);
+
+        //회원이 하루 동안 쓴 글 (달력 상세) : (writer_id, created_at, post_id) 인덱스 범위 읽기
+        @Query(POST_ROW_SELECT +
+                " where p.member.memberId = :writerId" +
+                " and p.createdAt between :start and :end" +
+                " order by p.createdAt desc, p.postId desc")
+        List<PostRowDto> findWriterRowsBetween(@Param("writerId") Long writerId,
+                                               @Param("start") LocalDateTime start,
+                                               @Param("end") LocalDateTime end);
+
+        //검색 색인이 돌려준 id 목록의 row (색인과 같은 순서)
+        @Query(POST_ROW_SELECT +
+                " where p.postId in :ids" +
+                " order by p.createdAt desc, p.postId desc")
+        List<PostRowDto> findRowsByIds(@Param("ids") Collection<Long> postIds);
+
+        //검색 색인/인기글 순위표 적재용 : postId 순으로 chunk 단위 조회
+        @Query("select new com.kimgreen.backend.domain.community.dto.PostIndexRow(" +
+                " p.postId, p.member.memberId, p.content, p.category, p.tag, p.createdAt, p.likeCount)" +
+                " from Post p where p.postId > :lastId order by p.postId")
+        List<PostIndexRow> findIndexRows(@Param("lastId") Long lastId, Pageable pageable);
+
+        //인기글 순위표를 다시 만드는 동안 바뀐 글의 현재 값
+        @Query("select new com.kimgreen.backend.domain.community.dto.PostIndexRow(" +
+                " p.postId, p.member.memberId, p.content, p.category, p.tag, p.createdAt, p.likeCount)" +
+                " from Post p where p.postId in :ids")
+        List<PostIndexRow> findIndexRowsByIds(@Param("ids") Collection<Long> postIds);
+
+        //인기글 순위표가 고른 id 의 본문 (순서는 호출한 쪽에서 맞춤)
+        @Query("select new com.kimgreen.backend.domain.community.dto.BestPostResponseDto(p.postId, p.content)" +
+                " from Post p where p.postId in :ids")
+        List<BestPostResponseDto> findBestPostContents(@Param("ids") Collection<Long> postIds);
+
+        //좋아요/댓글 카운터 증감 : 동시 요청에도 잃어버리지 않도록 DB에서 원자적으로 계산
+        @Modifying
+        @Query(value = "update post set like_count = like_count + 1 where post_id = :id", nativeQuery = true)
+        int increaseLikeCount(@Param("id") Long postId);
+        @Modifying
+        @Query(value = "update post set like_count = like_count - 1 where post_id = :id and like_count > 0", nativeQuery = true)
+        int decreaseLikeCount(@Param("id") Long postId);
+        @Modifying
+        @Query(value = "update post set comment_count = comment_count + 1 where post_id = :id", nativeQuery = true)
+        int increaseCommentCount(@Param("id") Long postId);
+        @Modifying
+        @Query(value = "update post set comment_count = comment_count - 1 where post_id = :id and comment_count > 0", nativeQuery = true)
+        int decreaseCommentCount(@Param("id") Long postId);
+
+        //카운터가 실제 likes/comment row 수와 다른 게시글만 다시 맞춤
+        @Modifying
+        @Query(value = "update post p" +
+                " left join (select post_id, count(*) cnt from likes group by post_id) l on l.post_id = p.post_id" +
+                " left join (select post_id, count(*) cnt from comment group by post_id) c on c.post_id = p.post_id" +
+                " set p.like_count = coalesce(l.cnt, 0), p.comment_count = coalesce(c.cnt, 0)" +
+                " where p.like_count <> coalesce(l.cnt, 0) or p.comment_count <> coalesce(c.cnt, 0)", nativeQuery = true)
+        int reconcileCounters();
 
 }
\ No newline at end of file
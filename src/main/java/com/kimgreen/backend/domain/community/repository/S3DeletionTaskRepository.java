@@ -0,0 +1,27 @@
+package com.kimgreen.backend.domain.community.repository;
+
+import com.kimgreen.backend.domain.community.entity.S3DeletionTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface S3DeletionTaskRepository extends JpaRepository<S3DeletionTask, Long> {
+
+    //지금 시도할 차례인 삭제 작업 (오래된 것부터)
+    @Query("select t from S3DeletionTask t where t.nextAttemptAt <= :now order by t.deletionId")
+    List<S3DeletionTask> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update S3DeletionTask t set t.attempts = t.attempts + 1, t.nextAttemptAt = :next where t.deletionId in :ids")
+    int retryLater(@Param("ids") Collection<Long> deletionIds, @Param("next") LocalDateTime nextAttemptAt);
+}
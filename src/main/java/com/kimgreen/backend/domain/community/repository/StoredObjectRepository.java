@@ -0,0 +1,67 @@
+package com.kimgreen.backend.domain.community.repository;
+
+import com.kimgreen.backend.domain.community.entity.StoredObject;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StoredObjectRepository extends JpaRepository<StoredObject, String> {
+
+    //참조 하나 추가 : 없으면 만들고(1 반환), 있으면 ref_count + 1 (2 반환)
+    @Transactional
+    @Modifying
+    @Query(value = "insert into stored_object (object_key, sha256, ref_count, stored, deleting, size, created_at, modified_at) " +
+            "values (:objectKey, :sha256, 1, false, false, :size, now(), now()) " +
+            "on duplicate key update ref_count = ref_count + 1", nativeQuery = true)
+    int acquire(@Param("objectKey") String objectKey, @Param("sha256") String sha256, @Param("size") long size);
+
+    boolean existsByObjectKeyAndStoredTrue(String objectKey);
+
+    //같은 내용(원본/썸네일)을 삭제 worker 가 지우는 중인지
+    boolean existsBySha256AndDeletingTrue(String sha256);
+
+    @Transactional
+    @Modifying
+    @Query("update StoredObject o set o.stored = true where o.objectKey = :objectKey")
+    int markStored(@Param("objectKey") String objectKey);
+
+    //참조 하나 제거 - 관리하지 않는 key 면 0
+    @Transactional
+    @Modifying
+    @Query("update StoredObject o set o.refCount = o.refCount - 1 where o.objectKey = :objectKey and o.refCount > 0")
+    int release(@Param("objectKey") String objectKey);
+
+    //참조가 0 이 돼도 row 는 남겨두고 삭제 worker 가 claimUnreferenced 로 가져감
+    @Query("select o.refCount from StoredObject o where o.objectKey = :objectKey")
+    Integer findRefCount(@Param("objectKey") String objectKey);
+
+    //삭제 worker : 해당 내용의 row 를 잠금 (select ... for update) - 짧은 트랜잭션에서 판단과 claim 만 하고 바로 커밋
+    //row 가 없는 해시도 sha256 인덱스 gap lock 이 걸려서, 커밋 전까지 같은 내용의 acquire(insert) 가 기다림
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from StoredObject o where o.sha256 in :hashes")
+    List<StoredObject> lockByHashes(@Param("hashes") Collection<String> hashes);
+
+    //참조가 없는 내용을 삭제 중으로 표시 : 저장소 객체를 지울 권리를 가져감 (호출한 트랜잭션 안에서)
+    @Modifying
+    @Query("update StoredObject o set o.deleting = true, o.stored = false where o.sha256 in :hashes and o.refCount = 0")
+    int claimUnreferenced(@Param("hashes") Collection<String> hashes);
+
+    //저장소에서 지운 뒤 : 그동안 다시 참조되지 않은 row 만 제거
+    @Modifying
+    @Query("delete from StoredObject o where o.sha256 in :hashes and o.deleting = true and o.refCount = 0")
+    int deleteClaimed(@Param("hashes") Collection<String> hashes);
+
+    //남은 row (그동안 다시 참조됐거나 삭제에 실패) 는 표시만 풀어 둠 - stored = false 라 다음 acquire 가 다시 올림
+    @Modifying
+    @Query("update StoredObject o set o.deleting = false where o.sha256 in :hashes and o.deleting = true")
+    int releaseClaims(@Param("hashes") Collection<String> hashes);
+}
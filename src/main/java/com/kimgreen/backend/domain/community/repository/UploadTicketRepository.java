@@ -0,0 +1,26 @@
+package com.kimgreen.backend.domain.community.repository;
+
+import com.kimgreen.backend.domain.community.entity.UploadTicket;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UploadTicketRepository extends JpaRepository<UploadTicket, String> {
+
+    //티켓 사용 : 동시에 같은 티켓을 쓰면 한 쪽만 1
+    @Transactional
+    @Modifying
+    @Query("delete from UploadTicket t where t.ticketId = :ticketId")
+    int consume(@Param("ticketId") String ticketId);
+
+    @Query("select t from UploadTicket t where t.expiresAt < :now order by t.expiresAt")
+    List<UploadTicket> findExpired(@Param("now") LocalDateTime now, Pageable pageable);
+}
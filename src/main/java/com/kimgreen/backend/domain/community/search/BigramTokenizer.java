@@ -0,0 +1,30 @@
+package com.kimgreen.backend.domain.community.search;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 공백으로 나눈 단어마다 2글자씩 잘라 색인어를 만든다. (예: "텀블러" -> "텀블", "블러")
+ * 한글은 형태소 분석 없이도 bigram 으로 부분 일치 검색이 가능하다.
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    //한 글자 단어는 색인어를 만들지 않음 -> 검색 시 본문 비교로 처리
+    public static Set<String> tokenize(String normalized) {
+        Set<String> terms = new HashSet<>();
+        for (String word : normalized.split("\\s+")) {
+            for (int i = 0; i + 1 < word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,213 @@
+package com.kimgreen.backend.domain.community.search;
+
+import com.kimgreen.backend.domain.community.dto.PostCursor;
+import com.kimgreen.backend.domain.community.dto.PostIndexRow;
+import com.kimgreen.backend.domain.community.entity.Category;
+import com.kimgreen.backend.domain.community.entity.Tag;
+import com.kimgreen.backend.domain.community.event.PostDeletedEvent;
+import com.kimgreen.backend.domain.community.event.PostSavedEvent;
+import com.kimgreen.backend.domain.community.repository.PostRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 본문 메모리 역색인 (bigram -> postId)
+ * 서버 시작 시 DB에서 한 번 만들고, 이후에는 게시글 작성/수정/삭제 이벤트로 갱신한다.
+ * bigram 교집합으로 후보를 줄인 뒤 본문 포함 여부를 다시 확인하므로 결과는 LIKE '%검색어%' 와 같다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final Comparator<Document> NEWEST_FIRST =
+            Comparator.comparing(Document::getCreatedAt).thenComparing(Document::getPostId).reversed();
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+    //색인을 만드는 동안 삭제된 id : 그 전에 읽어 둔 row 로 되살리지 않기 위함 (put/remove 와 같은 lock 으로 보호)
+    private final Set<Long> deletedWhileLoading = new HashSet<>();
+    private boolean loading = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            loading = true;
+        }
+        long lastId = 0L;
+        List<PostIndexRow> rows;
+        do {
+            rows = postRepository.findIndexRows(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (PostIndexRow row : rows) {
+                //색인하는 동안 들어온 수정 이벤트가 더 최신이므로 덮어쓰지 않음
+                put(new Document(row.getPostId(), row.getContent(), row.getCategory(), row.getTag(), row.getCreatedAt()), false);
+            }
+            if (!rows.isEmpty()) {
+                lastId = rows.get(rows.size() - 1).getPostId();
+            }
+        } while (rows.size() == LOAD_CHUNK_SIZE);
+        synchronized (this) {
+            loading = false;
+            deletedWhileLoading.clear();
+        }
+        ready = true;
+        log.info("post search index built : {} posts, {} terms", documents.size(), postings.size());
+    }
+
+    //색인이 준비되기 전에는 DB LIKE 검색을 사용
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostSaved(PostSavedEvent event) {
+        put(new Document(event.getPostId(), event.getContent(), event.getCategory(), event.getTag(), event.getCreatedAt()), true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        remove(event.getPostId());
+    }
+
+    /**
+     * @param cursor : null이면 가장 최신부터
+     * @param limit : 최대 반환 개수
+     * @return 검색어를 포함하는 게시글, (createdAt, postId) 내림차순
+     *         색인 기준이므로 다음 페이지 여부/커서는 이 결과로 판단해야 함 (DB에서 그 사이 지워진 글이 있을 수 있음)
+     */
+    public List<Hit> search(String query, Category category, Tag tag, PostCursor cursor, int limit) {
+        String normalized = BigramTokenizer.normalize(query);
+        Set<String> terms = BigramTokenizer.tokenize(normalized);
+
+        //가장 짧은 posting 목록부터 훑음, 색인어가 없으면 전체 문서를 훑음
+        Collection<Long> candidates = null;
+        for (String term : terms) {
+            Set<Long> ids = postings.get(term);
+            if (ids == null) {
+                return new ArrayList<>();
+            }
+            if (candidates == null || ids.size() < candidates.size()) {
+                candidates = ids;
+            }
+        }
+        if (candidates == null) {
+            candidates = documents.keySet();
+        }
+
+        //오래된 글이 head에 오는 heap으로 최신 limit개만 유지
+        PriorityQueue<Document> newest = new PriorityQueue<>(NEWEST_FIRST.reversed());
+        for (Long postId : candidates) {
+            Document document = documents.get(postId);
+            if (document == null || !document.matches(normalized, terms, category, tag, cursor)) {
+                continue;
+            }
+            newest.add(document);
+            if (newest.size() > limit) {
+                newest.poll();
+            }
+        }
+
+        List<Document> result = new ArrayList<>(newest);
+        result.sort(NEWEST_FIRST);
+        List<Hit> hits = new ArrayList<>(result.size());
+        for (Document document : result) {
+            hits.add(new Hit(document.getPostId(), document.getCreatedAt()));
+        }
+        return hits;
+    }
+
+    private synchronized void put(Document document, boolean replace) {
+        Document previous = documents.get(document.getPostId());
+        if (previous != null) {
+            if (!replace) {
+                return;
+            }
+            unlink(previous);
+        } else if (!replace && deletedWhileLoading.contains(document.getPostId())) {
+            return;
+        }
+        documents.put(document.getPostId(), document);
+        for (String term : document.getTerms()) {
+            postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(document.getPostId());
+        }
+    }
+
+    private synchronized void remove(Long postId) {
+        if (loading) {
+            deletedWhileLoading.add(postId);
+        }
+        Document previous = documents.remove(postId);
+        if (previous != null) {
+            unlink(previous);
+        }
+    }
+
+    private void unlink(Document document) {
+        for (String term : document.getTerms()) {
+            Set<Long> ids = postings.get(term);
+            if (ids != null) {
+                ids.remove(document.getPostId());
+                if (ids.isEmpty()) {
+                    postings.remove(term, ids);
+                }
+            }
+        }
+    }
+
+    //검색 결과 한 건 : 커서를 만들 수 있도록 작성 시각도 같이 돌려줌
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private final Long postId;
+        private final LocalDateTime createdAt;
+
+        public PostCursor toCursor() {
+            return new PostCursor(createdAt, postId);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Document {
+        private final Long postId;
+        private final String content;
+        private final Category category;
+        private final Tag tag;
+        private final LocalDateTime createdAt;
+        private final Set<String> terms;
+
+        Document(Long postId, String content, Category category, Tag tag, LocalDateTime createdAt) {
+            this(postId, BigramTokenizer.normalize(content), category, tag, createdAt,
+                    BigramTokenizer.tokenize(BigramTokenizer.normalize(content)));
+        }
+
+        boolean matches(String query, Set<String> queryTerms, Category category, Tag tag, PostCursor cursor) {
+            if (category != null && this.category != category) {
+                return false;
+            }
+            if (tag != null && this.tag != tag) {
+                return false;
+            }
+            if (cursor != null && !(createdAt.isBefore(cursor.getCreatedAt())
+                    || (createdAt.isEqual(cursor.getCreatedAt()) && postId < cursor.getPostId()))) {
+                return false;
+            }
+            return terms.containsAll(queryTerms) && content.contains(query);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.kimgreen.backend.domain.community.service;
 
+import com.kimgreen.backend.domain.community.dto.CommentCursor;
 import com.kimgreen.backend.domain.community.dto.GetCommentDto;
 import com.kimgreen.backend.domain.community.dto.PostCommentDto;
 import com.kimgreen.backend.domain.community.entity.Comment;
+import com.kimgreen.backend.domain.community.event.CommentChangedEvent;
+import com.kimgreen.backend.domain.community.event.CommentCreatedEvent;
 import com.kimgreen.backend.domain.community.entity.Post;
 import com.kimgreen.backend.domain.community.repository.CommentRepository;
 import com.kimgreen.backend.domain.community.repository.PostRepository;
@@ -14,8 +17,13 @@ import com.kimgreen.backend.domain.profile.entity.RepresentativeBadge;
 import com.kimgreen.backend.domain.profile.repository.RepresentativeBadgeRepository;
 import com.kimgreen.backend.exception.PostNotFound;
 import com.kimgreen.backend.exception.WrongPath;
+import com.kimgreen.backend.response.CursorPage;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 
@@ -32,7 +40,10 @@ public class CommentService {
     private final RepresentativeBadgeRepository representativeBadgeRepository;
 
     private final MemberProfileImgRepository memberProfileImgRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ViewerContext viewerContext;
 
+    @Transactional
     public void postComment(Long postId, PostCommentDto postCommentDto){
         Member member = memberService.getCurrentMember();
         Post post = postRepository.findById(postId).orElseThrow(PostNotFound::new);
@@ -44,40 +55,83 @@ public class CommentService {
                 .build();
         // 데이터 베이스에 저장하기
         commentRepository.save(comment);
+        postRepository.increaseCommentCount(postId);
+        eventPublisher.publishEvent(CommentChangedEvent.of(post, member.getMemberId()));
+        eventPublisher.publishEvent(new CommentCreatedEvent(comment.getCommentId(), postId, member.getMemberId(),
+                member.getEmail(), post.getMember().getMemberId(), comment.getContent()));
         // 명세서의 오류들 처리하기???
     }
 
+    @Transactional
     public void deleteComment(Long commentId){
         Member member = memberService.getCurrentMember();
         Comment comment = commentRepository.findById(commentId).orElseThrow(WrongPath::new);
         commentRepository.delete(comment);
+        postRepository.decreaseCommentCount(comment.getPost().getPostId());
+        eventPublisher.publishEvent(CommentChangedEvent.of(comment.getPost(), comment.getMember().getMemberId()));
 
     }
 
+    //게시글의 전체 댓글 (cursor, size 없이 요청한 경우)
+    @Transactional(readOnly = true)
     public List<GetCommentDto> getComment(Long postId){
-        List <Comment> allCommentList = commentRepository.findAll(); // 모든 댓글 목록
-        Post post = postRepository.findById(postId).orElseThrow(PostNotFound::new); // 내가 보고싶은 포스트
-
-        List <GetCommentDto> commentList = new ArrayList<>(); // 리턴
-
-        for (Comment comment : allCommentList){
-            if (comment.getPost() == post){
-                MemberProfileImg memberProfileImg = memberProfileImgRepository.findByMember(comment.getMember());
-                RepresentativeBadge representativeBadge = representativeBadgeRepository.findByMember(comment.getMember());
-
-                GetCommentDto getCommentDto1 = GetCommentDto.builder()
-                        .commentId(comment.getCommentId())
-                        .writerProfileImg(s3Service.getFullUrl(memberProfileImg.getImgUrl()))
-                        .writerNickname(comment.getMember().getNickname())
-                        .writerBadge(representativeBadge.getRepresentativeBadge().name)
-                        .content(comment.getContent())
-                        .isWriter(comment.getMember().getMemberId().equals(memberService.getCurrentMember().getMemberId()))
-                        .createAt(comment.getCreatedAt())
-                        .build();
-                commentList.add(getCommentDto1);
-            }
+        checkPostExists(postId);
+        return toDtos(commentRepository.findPostComments(postId, null, Pageable.unpaged()));
+    }
+
+    //게시글의 댓글 한 페이지 : 작성 순, 다음 페이지는 nextCursor
+    @Transactional(readOnly = true)
+    public CursorPage<GetCommentDto> getCommentPage(Long postId, String cursor, Integer size){
+        checkPostExists(postId);
+        int pageSize = CursorPage.capSize(size);
+        CommentCursor commentCursor = CommentCursor.decode(cursor);
+
+        List<Comment> comments = commentRepository.findPostComments(postId,
+                commentCursor == null ? null : commentCursor.getCommentId(),
+                PageRequest.of(0, pageSize + 1));
+
+        return CursorPage.fromOverfetch(comments, pageSize,
+                comment -> new CommentCursor(comment.getCommentId()).encode(), this::toDtos);
+    }
+
+    private void checkPostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFound();
+        }
+    }
+
+    //작성자 프로필 사진/대표 뱃지는 페이지 단위로 IN 조회 한 번씩
+    private List<GetCommentDto> toDtos(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<Long> writerIds = new HashSet<>();
+        comments.forEach(comment -> writerIds.add(comment.getMember().getMemberId()));
+
+        Map<Long, MemberProfileImg> profileImgs = new HashMap<>();
+        memberProfileImgRepository.findByMemberIds(writerIds)
+                .forEach(memberProfileImg -> profileImgs.put(memberProfileImg.getMember().getMemberId(), memberProfileImg));
+        Map<Long, RepresentativeBadge> badges = new HashMap<>();
+        representativeBadgeRepository.findByMemberIds(writerIds)
+                .forEach(representativeBadge -> badges.put(representativeBadge.getMember().getMemberId(), representativeBadge));
+
+        List <GetCommentDto> commentList = new ArrayList<>(comments.size());
+        for (Comment comment : comments){
+            Long writerId = comment.getMember().getMemberId();
+            MemberProfileImg memberProfileImg = profileImgs.get(writerId);
+            RepresentativeBadge representativeBadge = badges.get(writerId);
+
+            commentList.add(GetCommentDto.from(comment,
+                    memberProfileImg == null ? null : s3Service.getFullUrl(listImg(memberProfileImg)),
+                    representativeBadge == null ? null : representativeBadge.getRepresentativeBadge().name,
+                    viewerContext.isMine(writerId)));
         }
         return commentList;
     }
 
+    //목록에서는 썸네일이 있으면 썸네일
+    private String listImg(MemberProfileImg memberProfileImg) {
+        return memberProfileImg.getThumbnailUrl() != null ? memberProfileImg.getThumbnailUrl() : memberProfileImg.getImgUrl();
+    }
+
 }
\ No newline at end of file
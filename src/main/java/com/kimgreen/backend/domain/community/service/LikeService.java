@@ -2,12 +2,14 @@ package com.kimgreen.backend.domain.community.service;
 
 import com.kimgreen.backend.domain.community.entity.Likes;
 import com.kimgreen.backend.domain.community.entity.Post;
+import com.kimgreen.backend.domain.community.event.PostLikedEvent;
 import com.kimgreen.backend.domain.community.repository.LikeRepository;
 import com.kimgreen.backend.domain.community.repository.PostRepository;
 import com.kimgreen.backend.domain.member.entity.Member;
 import com.kimgreen.backend.domain.member.service.MemberService;
 import com.kimgreen.backend.exception.PostNotFound;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class LikeService {
     private final MemberService memberService;
     private final PostRepository postRepository;
     private final LikeRepository likeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void setLike(Long postId) {
@@ -29,8 +32,13 @@ public class LikeService {
         Optional<Likes> foundLike = likeRepository.findByPostAndMember(post,member);
         if(foundLike.isEmpty()) {
             postLike(member, post);
+            postRepository.increaseLikeCount(postId);
+            eventPublisher.publishEvent(PostLikedEvent.of(post, 1));
         } else {
             likeRepository.delete(foundLike.get());
+            if (postRepository.decreaseLikeCount(postId) > 0) {
+                eventPublisher.publishEvent(PostLikedEvent.of(post, -1));
+            }
         }
     }
 
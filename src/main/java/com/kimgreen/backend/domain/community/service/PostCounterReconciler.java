@@ -0,0 +1,51 @@
+package com.kimgreen.backend.domain.community.service;
+
+import com.kimgreen.backend.domain.community.ranking.PostLeaderboard;
+import com.kimgreen.backend.domain.community.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Post.likeCount / commentCount 보정 작업
+ * 회원 탈퇴 cascade 삭제처럼 카운터를 거치지 않는 경로가 있어서 주기적으로 실제 row 수에 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounterReconciler {
+
+    private final PostRepository postRepository;
+    private final PostLeaderboard postLeaderboard;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${post.counter.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    //카운터 컬럼이 처음 추가된 경우에도 기존 게시글 값을 채워줌
+    //인기글 순위표가 보정된 값으로 만들어지도록 먼저 실행
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    //보정은 짧은 트랜잭션으로 먼저 커밋하고, 순위표는 커밋된 값으로 트랜잭션 밖에서 다시 만듦
+    @Scheduled(cron = "${post.counter.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        Integer repaired = transactionTemplate.execute(status -> postRepository.reconcileCounters());
+        if (repaired != null && repaired > 0) {
+            log.info("repaired like/comment counters of {} posts", repaired);
+            postLeaderboard.rebuild();
+        }
+    }
+}
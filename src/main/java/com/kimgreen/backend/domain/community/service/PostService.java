@@ -1,81 +1,145 @@
 package com.kimgreen.backend.domain.community.service;
 
+import com.kimgreen.backend.domain.community.cache.PostDetailCache;
 import com.kimgreen.backend.domain.community.dto.BestPostResponseDto;
 import com.kimgreen.backend.domain.community.dto.GetPostInfoRequestDto;
 import com.kimgreen.backend.domain.community.dto.GetPostInfoResponseDto;
+import com.kimgreen.backend.domain.community.dto.LikedPostIds;
+import com.kimgreen.backend.domain.community.dto.PostCursor;
+import com.kimgreen.backend.domain.community.dto.PostRowDto;
 import com.kimgreen.backend.domain.community.dto.WritePostRequestDto;
 import com.kimgreen.backend.domain.community.entity.*;
+import com.kimgreen.backend.domain.community.event.ImageStoredEvent;
+import com.kimgreen.backend.domain.community.event.PostDeletedEvent;
+import com.kimgreen.backend.domain.community.event.PostSavedEvent;
+import com.kimgreen.backend.domain.community.ranking.LeaderboardType;
+import com.kimgreen.backend.domain.community.ranking.PostLeaderboard;
 import com.kimgreen.backend.domain.community.repository.PostImgRepository;
 import com.kimgreen.backend.domain.community.repository.PostRepository;
+import com.kimgreen.backend.domain.community.search.PostSearchIndex;
 import com.kimgreen.backend.domain.member.entity.Member;
-import com.kimgreen.backend.domain.member.entity.MemberProfileImg;
-import com.kimgreen.backend.domain.member.repository.MemberProfileImgRepository;
 import com.kimgreen.backend.domain.member.service.MemberService;
 import com.kimgreen.backend.domain.profile.entity.Badge;
-import com.kimgreen.backend.domain.profile.entity.RepresentativeBadge;
 import com.kimgreen.backend.domain.profile.repository.BadgeRepository;
-import com.kimgreen.backend.domain.profile.repository.RepresentativeBadgeRepository;
+import com.kimgreen.backend.domain.profile.repository.DailyActivityRepository;
+import com.kimgreen.backend.exception.InvalidUploadTicket;
 import com.kimgreen.backend.exception.PostNotFound;
+import com.kimgreen.backend.response.CursorPage;
+import com.kimgreen.backend.response.KeysetChunks;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.codehaus.jackson.annotate.JsonIgnore;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
-
-import static java.util.Arrays.stream;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final int BEST_POST_DEFAULT_SIZE = 3;
+
     private final S3Service s3Service;
     private final MemberService memberService;
     private final PostRepository postRepository;
     private final PostImgRepository postImgRepository;
-    private final MemberProfileImgRepository memberProfileImgRepository;
-    private final RepresentativeBadgeRepository representativeBadgeRepository;
     private final BadgeRepository badgeRepository;
-
-    //게시물 작성
-    @Transactional
+    private final ViewerContext viewerContext;
+    private final PostSearchIndex postSearchIndex;
+    private final PostLeaderboard postLeaderboard;
+    private final PostDetailCache postDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final UploadTicketService uploadTicketService;
+    private final DailyActivityRepository dailyActivityRepository;
+
+    //게시물 작성 : 이미지는 트랜잭션 밖에서 먼저 올리고, DB 작업만 짧은 트랜잭션으로 묶음
     public void writeCheckPost(WritePostRequestDto writePostRequestDto, MultipartFile multipartFile, Member member) throws IOException {
 
-        Badge badge = badgeRepository.findByMember(member);
-        Post post = postRepository.save(writePostRequestDto.toCertifyPostEntity(
-                writePostRequestDto.getCategory(),
-                writePostRequestDto.getContent(), member));
-
-        uploadPostFileList(multipartFile, post);
-        updateBadgeCount(badge, post.getCategory(), post.getTag());
+        StagedImage staged = stageImage(multipartFile, writePostRequestDto.getUploadTicket(), member);
+        //인증 게시글은 이미지 필수
+        if (staged == null) {
+            throw new InvalidUploadTicket();
+        }
+        commitStaged(staged, () -> {
+            Badge badge = badgeRepository.findByMember(member);
+            Post post = postRepository.save(writePostRequestDto.toCertifyPostEntity(
+                    writePostRequestDto.getCategory(),
+                    writePostRequestDto.getContent(), member));
+
+            savePostImg(staged, post);
+            updateBadgeCount(badge, post.getCategory(), post.getTag());
+            addDailyActivity(post, 1);
+            eventPublisher.publishEvent(PostSavedEvent.of(post));
+        });
     }
 
-    @Transactional
     public void writeDailyPost(WritePostRequestDto writePostRequestDto, MultipartFile multipartFile, Member member) throws IOException {
 
-        Badge badge = badgeRepository.findByMember(member);
-        Post post = postRepository.save(writePostRequestDto.toDailyPostEntity(
-                writePostRequestDto.getCategory(),
-                writePostRequestDto.getContent(), member));
+        StagedImage staged = stageImage(multipartFile, writePostRequestDto.getUploadTicket(), member);
+        commitStaged(staged, () -> {
+            Badge badge = badgeRepository.findByMember(member);
+            Post post = postRepository.save(writePostRequestDto.toDailyPostEntity(
+                    writePostRequestDto.getCategory(),
+                    writePostRequestDto.getContent(), member));
+
+            savePostImg(staged, post);
+            updateBadgeCount(badge, post.getCategory(), post.getTag());
+            addDailyActivity(post, 1);
+            eventPublisher.publishEvent(PostSavedEvent.of(post));
+        });
+    }
+
+    //트랜잭션 전에 준비한 이미지 (저장소 key, 원래 파일 이름)
+    @Getter
+    @AllArgsConstructor
+    private static class StagedImage {
+        private final String key;
+        private final String title;
+    }
 
+    //이미지 준비 (트랜잭션 밖에서 호출) : 파일이 오면 S3 업로드, 업로드 티켓이 오면 직접 올린 파일 확인. 둘 다 없으면 null
+    private StagedImage stageImage(MultipartFile multipartFile, String uploadTicket, Member member) throws IOException {
         if (multipartFile != null) {
-            uploadPostFileList(multipartFile, post);
+            return new StagedImage(s3Service.saveFile(multipartFile), multipartFile.getOriginalFilename());
         }
-        updateBadgeCount(badge, post.getCategory(), post.getTag());
+        if (StringUtils.hasText(uploadTicket)) {
+            UploadTicket ticket = uploadTicketService.redeem(uploadTicket, member, UploadPurpose.POST);
+            return new StagedImage(ticket.getObjectKey(), ticket.getFileName());
+        }
+        return null;
     }
 
-    @Transactional
-    public void uploadPostFileList(MultipartFile multipartFile, Post post) throws IOException {
+    //DB 작업을 트랜잭션으로 실행. 실패하면 미리 올려둔 파일은 삭제 큐로
+    private void commitStaged(StagedImage staged, Runnable work) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> work.run());
+        } catch (RuntimeException e) {
+            if (staged != null) {
+                s3Service.deleteImage(staged.getKey(), null);
+            }
+            throw e;
+        }
+    }
+
+    private void savePostImg(StagedImage staged, Post post) {
+        if (staged == null) {
+            return;
+        }
         PostImg postImg = postImgRepository.save(PostImg.builder()
-                .imgUrl(s3Service.saveFile(multipartFile))
-                .title(multipartFile.getOriginalFilename())
+                .imgUrl(staged.getKey())
+                .title(staged.getTitle())
                 .post(post).build());
+        eventPublisher.publishEvent(new ImageStoredEvent(ImageStoredEvent.Type.POST, postImg.getPostImgId(), postImg.getImgUrl()));
     }
 
     //뱃지 카운트 (게시글 작성)
@@ -153,82 +217,103 @@ public class PostService {
 
 
 
-    // 게시글 상세정보 조회
-    @Transactional
+    // 게시글 상세정보 조회 : 공통 부분은 캐시에서, isLiked/isMine 만 요청마다 계산
+    @Transactional(readOnly = true)
     public GetPostInfoResponseDto getPostInfo(Long postId) {
-        Post post = postRepository.findById(postId).orElseThrow(PostNotFound::new);
-        Member member = post.getMember();
-
-        List<Likes> likeList = post.getLikes();
-        boolean isLiked = isLiked(likeList,member);
-
-        if(post.getPostImg()!= null) {
-            return GetPostInfoResponseDto.builder()
-                    .writerNickname(post.getMember().getNickname())
-                    .writerProfileImg(s3Service.getFullUrl(memberProfileImgRepository.findByMember(member).getImgUrl()))
-                    .imgUrl(s3Service.getFullUrl(postImgRepository.findByPost(post).getImgUrl()))
-                    .content(post.getContent())
-                    .tag(post.getTag().toString())
-                    .postId(post.getPostId())
-                    .category(String.valueOf(post.getCategory()))
-                    .writerBadge(representativeBadgeRepository.findByMember(post.getMember()).getRepresentativeBadge().name)
-                    .likeCount(post.getLikes().size())
-                    .commentCount(post.getComments().size())
-                    .isLiked(isLiked)
-                    .isMine(post.getMember().getMemberId().equals(memberService.getCurrentMember().getMemberId()))
-                    .updatedAt(post.getModifiedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
-                    .build();
-        }
-        return GetPostInfoResponseDto.builder()
-                .writerNickname(post.getMember().getNickname())
-                .writerProfileImg(s3Service.getFullUrl(memberProfileImgRepository.findByMember(member).getImgUrl()))
-                .content(post.getContent())
-                .postId(post.getPostId())
-                .tag(post.getTag().toString())
-                .category(String.valueOf(post.getCategory()))
-                .writerBadge(representativeBadgeRepository.findByMember(post.getMember()).getRepresentativeBadge().name)
-                .likeCount(post.getLikes().size())
-                .commentCount(post.getComments().size())
+        PostDetailCache.Entry cached = postDetailCache.get(postId, this::loadPostDetail);
+        boolean isLiked = viewerContext.likedPostIds(List.of(postId)).contains(postId);
+
+        return cached.getDetail().toBuilder()
                 .isLiked(isLiked)
-                .isMine(post.getMember().getMemberId().equals(memberService.getCurrentMember().getMemberId()))
-                .updatedAt(post.getModifiedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
+                .isMine(viewerContext.isMine(cached.getWriterId()))
                 .build();
     }
 
+    //캐시 miss : 목록과 같은 projection 한 번으로 작성자/이미지/뱃지/카운트를 읽음
+    private PostDetailCache.Entry loadPostDetail(Long postId) {
+        List<PostRowDto> rows = postRepository.findRowsByIds(List.of(postId));
+        if (rows.isEmpty()) {
+            throw new PostNotFound();
+        }
+        PostRowDto row = rows.get(0);
+        GetPostInfoResponseDto detail = GetPostInfoResponseDto.from(row,
+                s3Service.getFullUrl(row.getWriterProfileImg()),
+                row.getImgUrl() == null ? null : s3Service.getFullUrl(row.getImgUrl()),
+                false, false);
+        return new PostDetailCache.Entry(detail, row.getWriterId());
+    }
+
 
+    //전체 목록 : chunk 단위로 이어서 읽고 응답에 바로 씀 (목록 전체를 메모리에 올리지 않음)
+    public Iterator<List<GetPostInfoResponseDto>> streamPostlist(Category category, Tag tag, String search) {
+        String keyword = searchKeyword(search);
+        if (keyword != null && postSearchIndex.isReady()) {
+            //검색 : chunk 경계는 색인 결과 기준
+            return new KeysetChunks<>(KeysetChunks.DEFAULT_CHUNK_SIZE,
+                    last -> postSearchIndex.search(keyword, category, tag, last == null ? null : last.toCursor(), KeysetChunks.DEFAULT_CHUNK_SIZE),
+                    hits -> toListDtos(findRowsByHits(hits)));
+        }
+        return new KeysetChunks<>(KeysetChunks.DEFAULT_CHUNK_SIZE,
+                last -> findFeedRows(category, tag, keyword, last == null ? null : PostCursor.from(last), KeysetChunks.DEFAULT_CHUNK_SIZE),
+                this::toListDtos);
+    }
+
+    //커서 기반 게시글 목록 (size+1개 조회해서 다음 페이지 여부 판단)
     @Transactional(readOnly = true)
-    public List<GetPostInfoResponseDto> getPostlist(Category category, Tag tag, String search) {
+    public CursorPage<GetPostInfoResponseDto> getPostPage(Category category, Tag tag, String search, String cursor, Integer size) {
+        int pageSize = CursorPage.capSize(size);
+        PostCursor postCursor = PostCursor.decode(cursor);
+        String keyword = searchKeyword(search);
+        if (keyword != null && postSearchIndex.isReady()) {
+            return searchPage(keyword, category, tag, postCursor, pageSize);
+        }
+
+        List<PostRowDto> rows = findFeedRows(category, tag, keyword, postCursor, pageSize + 1);
+
+        return CursorPage.fromOverfetch(rows, pageSize, row -> PostCursor.from(row).encode(), this::toListDtos);
+    }
+
+    //검색어가 있으면 메모리 색인으로 id를 먼저 고르고 해당 row만 조회 (본문 LIKE 전체 스캔 회피)
+    //다음 페이지 여부와 커서는 색인 결과로 정함 : 그 사이 DB에서 지워진 글이 있어도 페이지가 일찍 끝나지 않음
+    private CursorPage<GetPostInfoResponseDto> searchPage(String keyword, Category category, Tag tag, PostCursor cursor, int pageSize) {
+        List<PostSearchIndex.Hit> hits = postSearchIndex.search(keyword, category, tag, cursor, pageSize + 1);
 
+        return CursorPage.fromOverfetch(hits, pageSize,
+                hit -> hit.toCursor().encode(), page -> toListDtos(findRowsByHits(page)));
+    }
+
+    private List<PostRowDto> findRowsByHits(List<PostSearchIndex.Hit> hits) {
+        if (hits.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return postRepository.findRowsByIds(hits.stream().map(PostSearchIndex.Hit::getPostId).toList());
+    }
+
+    private String searchKeyword(String search) {
+        return StringUtils.hasText(search) ? search : null;
+    }
+
+    private List<PostRowDto> findFeedRows(Category category, Tag tag, String keyword, PostCursor cursor, int limit) {
+        return postRepository.findFeedRows(category, tag, keyword,
+                cursor == null ? null : cursor.getCreatedAt(),
+                cursor == null ? null : cursor.getPostId(),
+                PageRequest.of(0, limit));
+    }
+
+    //projection row -> dto : 좋아요 여부는 viewer 기준 IN 조회 1번으로 끝냄
+    private List<GetPostInfoResponseDto> toListDtos(List<PostRowDto> rows) {
         List<GetPostInfoResponseDto> postList = new ArrayList<>();
-        List<Post> posts = findPosts(category,tag,search);
-
-        for (Post post : posts) {
-
-            Member member = post.getMember();
-            List<Likes> likeList = post.getLikes();
-            boolean isLiked = isLiked(likeList, member);
-            PostImg postImg = postImgRepository.findByPost(post);
-
-
-            GetPostInfoResponseDto getPostInfoResponseDto = GetPostInfoResponseDto.builder()
-                    .writerNickname(post.getMember().getNickname())
-                    .writerProfileImg(s3Service.getFullUrl(memberProfileImgRepository.findByMember(member).getImgUrl()))
-                    .content(post.getContent())
-                    .postId(post.getPostId())
-                    .category(post.getCategory().toString())
-                    .tag(post.getTag().toString())
-                    .writerBadge(representativeBadgeRepository.findByMember(member).getRepresentativeBadge().name)
-                    .likeCount(post.getLikes().size())
-                    .commentCount(post.getComments().size())
-                    .isLiked(isLiked)
-                    .isMine(post.getMember().getMemberId().equals(memberService.getCurrentMember().getMemberId()))
-                    .updatedAt(post.getModifiedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
-                    .build();
-
-            if (postImg!= null) {
-                getPostInfoResponseDto.setImgUrl(s3Service.getFullUrl(postImg.getImgUrl()));
-            }
-            postList.add(getPostInfoResponseDto);
+        if (rows.isEmpty()) {
+            return postList;
+        }
+        LikedPostIds likedPostIds = viewerContext.likedPostIds(rows.stream().map(PostRowDto::getPostId).toList());
+
+        for (PostRowDto row : rows) {
+            postList.add(GetPostInfoResponseDto.from(row,
+                    s3Service.getFullUrl(row.getListWriterProfileImg()),
+                    row.getImgUrl() == null ? null : s3Service.getFullUrl(row.getListImgUrl()),
+                    likedPostIds.contains(row.getPostId()),
+                    viewerContext.isMine(row.getWriterId())));
         }
         return postList;
     }
@@ -244,56 +329,78 @@ public class PostService {
         // 게시글 삭제
         postRepository.delete(post);
         decreaseBadgeCount(badge, post.getCategory(), post.getTag());
+        addDailyActivity(post, -1);
+        eventPublisher.publishEvent(PostDeletedEvent.of(post));
 
     }
 
-    //게시글 수정하기
-    @Transactional
+    //달력 집계 : 작성일 기준 인증/일상 글 수 증감 (작성/삭제 트랜잭션 안에서)
+    private void addDailyActivity(Post post, int delta) {
+        boolean certify = post.getTag() == Tag.CERTIFY;
+        dailyActivityRepository.add(post.getMember().getMemberId(), post.getCreatedAt().toLocalDate(),
+                certify ? delta : 0, certify ? 0 : delta);
+    }
+
+    //게시글 수정하기 : 새 이미지는 트랜잭션 밖에서 먼저 올림 (또는 업로드 티켓 확인)
     public void editPost(Long postId, WritePostRequestDto editPostInfoRequestDto, MultipartFile
             multipartFile) throws IOException {
 
-        Member member = memberService.getCurrentMember();
-        Post post = postRepository.findById(postId).orElseThrow(PostNotFound::new);
-
-        post.update(editPostInfoRequestDto.getCategory(), editPostInfoRequestDto.getContent());
-
-
-        if (multipartFile != null) {
-            PostImg postImg = postImgRepository.findByPost(post);
-            //postImg 원래 존재하면
-            if(postImg!=null) {
-                s3Service.delete(postImg.getImgUrl());
-                postImg.setImgUrl(s3Service.saveFile(multipartFile));
-            }
-            //postImg 존재하지 않았으면
-            else {
-                uploadPostFileList(multipartFile,post);
-            }
-        } else {
-            PostImg postImg = postImgRepository.findByPost(post);
-            if(postImg!=null) {
-                s3Service.delete(postImg.getImgUrl());
-                postImgRepository.delete(postImg);
+        StagedImage staged = stageImage(multipartFile, editPostInfoRequestDto.getUploadTicket(), memberService.getCurrentMember());
+        commitStaged(staged, () -> {
+            Post post = postRepository.findById(postId).orElseThrow(PostNotFound::new);
+
+            post.update(editPostInfoRequestDto.getCategory(), editPostInfoRequestDto.getContent());
+            eventPublisher.publishEvent(PostSavedEvent.of(post));
+
+            if (staged != null) {
+                PostImg postImg = postImgRepository.findByPost(post);
+                //postImg 원래 존재하면
+                if(postImg!=null) {
+                    s3Service.deleteImage(postImg.getImgUrl(), postImg.getThumbnailUrl());
+                    postImg.setImgUrl(staged.getKey());
+                    postImg.setTitle(staged.getTitle());
+                    postImg.setThumbnailUrl(null);
+                    eventPublisher.publishEvent(new ImageStoredEvent(ImageStoredEvent.Type.POST, postImg.getPostImgId(), postImg.getImgUrl()));
+                }
+                //postImg 존재하지 않았으면
+                else {
+                    savePostImg(staged, post);
+                }
+            } else {
+                PostImg postImg = postImgRepository.findByPost(post);
+                if(postImg!=null) {
+                    s3Service.deleteImage(postImg.getImgUrl(), postImg.getThumbnailUrl());
+                    postImgRepository.delete(postImg);
+                }
             }
-        }
+        });
     }
 
-    public boolean isLiked(List<Likes> likesList,Member member) {
-        for(Likes like : likesList) {
-            if(like.getMember().getMemberId().equals(member.getMemberId())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    //좋아요 상위 목록 불러오기
-    @Transactional
-    public List<BestPostResponseDto> getBestPostList() {
-        List<Post> bestPost = postRepository.findTop3ByOrderByLikeCountDesc();
+    //좋아요 상위 목록 불러오기 : 메모리 순위표에서 상위 size개 id 를 고르고 본문만 IN 조회 한 번
+    @Transactional(readOnly = true)
+    public List<BestPostResponseDto> getBestPostList(LeaderboardType type, Category category, Integer size) {
+        int limit = size == null ? BEST_POST_DEFAULT_SIZE : Math.min(Math.max(size, 1), CursorPage.MAX_SIZE);
         List<BestPostResponseDto> result = new ArrayList<>();
 
-        for(Post post : bestPost) {
+        if (postLeaderboard.isReady()) {
+            List<Long> postIds = postLeaderboard.top(type == null ? LeaderboardType.BEST : type, category, limit).stream()
+                    .map(PostLeaderboard.Score::getPostId)
+                    .toList();
+            if (postIds.isEmpty()) {
+                return result;
+            }
+            Map<Long, BestPostResponseDto> byId = new HashMap<>();
+            postRepository.findBestPostContents(postIds).forEach(dto -> byId.put(dto.getPostId(), dto));
+            //순위표 순서대로, 그 사이 지워진 글은 빠짐
+            for (Long postId : postIds) {
+                BestPostResponseDto dto = byId.get(postId);
+                if (dto != null) {
+                    result.add(dto);
+                }
+            }
+            return result;
+        }
+        for(Post post : postRepository.findBestPosts(category, PageRequest.of(0, limit))) {
             result.add(BestPostResponseDto.builder()
                             .postId(post.getPostId())
                             .content(post.getContent())
@@ -305,21 +412,8 @@ public class PostService {
     public void deletePostImg(Post post) {
         PostImg postImg = postImgRepository.findByPost(post);
         if(postImg!=null) {
-            s3Service.delete(s3Service.getFullUrl(postImg.getImgUrl()));
+            s3Service.deleteImage(postImg.getImgUrl(), postImg.getThumbnailUrl());
             postImgRepository.delete(postImg);
         }
     }
-
-    public List<Post> findPosts(Category category, Tag tag, String search) {
-
-        if(category==null && tag==null && search==null) {return postRepository.findAll();}
-        if(category==null && tag==null && search!=null) {return postRepository.findByContentContaining(search);}
-        if(category==null && tag!=null && search!=null) {return postRepository.findByTagAndContentContaining(tag, search);}
-        if(category!=null && tag==null && search!=null) {return postRepository.findByCategoryAndContentContaining(category, search);}
-        if(category!=null && tag!=null && search!=null) {return postRepository.findByCategoryAndTagAndContentContaining(category,tag,search);}
-        if(category==null && tag!=null && search==null) {return postRepository.findByTag(tag);}
-        if(category!=null && tag==null && search==null) {return postRepository.findByCategory(category);}
-        if(category!=null && tag!=null && search==null) {return postRepository.findByCategoryAndTag(category,tag);}
-         return new ArrayList<>();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,244 @@
+package com.kimgreen.backend.domain.community.service;
+
+import com.kimgreen.backend.domain.community.entity.S3DeletionTask;
+import com.kimgreen.backend.domain.community.entity.StoredObject;
+import com.kimgreen.backend.domain.community.image.ThumbnailGenerator;
+import com.kimgreen.backend.domain.community.repository.S3DeletionTaskRepository;
+import com.kimgreen.backend.domain.community.repository.StoredObjectRepository;
+import com.kimgreen.backend.domain.community.storage.ObjectStorage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저장소 객체 삭제 큐
+ * 삭제 요청은 DB 트랜잭션 안에서 s3_deletion_queue 에 row 만 남기고, 커밋된 뒤 worker 스레드가
+ * 최대 1000개씩 묶어서 지운다. (S3 는 multi-object delete 한 번) 실패한 key 는 지수 백오프로 다시 시도한다.
+ * 내용 기준 key 는 짧은 트랜잭션에서 참조가 0 인 내용을 삭제 중으로 표시(claim)하고 커밋한 뒤, 트랜잭션 밖에서 저장소에서 지운다.
+ * 남은 작업 수는 s3.deletion.queue.depth 로 확인
+ */
+@Slf4j
+@Component
+public class S3DeletionQueue {
+
+    //한 번에 꺼내서 지울 작업 수 (S3 DeleteObjects 최대 key 수)
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+    private static final long BASE_BACKOFF_SECONDS = 30;
+    private static final int MAX_BACKOFF_EXPONENT = 7;
+
+    private final ObjectStorage objectStorage;
+    private final S3DeletionTaskRepository s3DeletionTaskRepository;
+    private final StoredObjectRepository storedObjectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    //worker 는 하나 : 커밋 후 요청과 주기 실행이 겹쳐도 한 번씩만 돎
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "s3-deletion");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    public S3DeletionQueue(ObjectStorage objectStorage, S3DeletionTaskRepository s3DeletionTaskRepository,
+                           StoredObjectRepository storedObjectRepository, TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry) {
+        this.objectStorage = objectStorage;
+        this.s3DeletionTaskRepository = s3DeletionTaskRepository;
+        this.storedObjectRepository = storedObjectRepository;
+        this.transactionTemplate = transactionTemplate;
+        Gauge.builder("s3.deletion.queue.depth", queueDepth, AtomicLong::get)
+                .description("삭제 대기 중인 저장소 객체 수")
+                .register(meterRegistry);
+    }
+
+    //호출한 트랜잭션에 참여 -> 롤백되면 삭제 요청도 같이 사라짐
+    @Transactional
+    public void enqueue(String key) {
+        s3DeletionTaskRepository.save(S3DeletionTask.builder()
+                .objectKey(key)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    requestDrain();
+                }
+            });
+        } else {
+            requestDrain();
+        }
+    }
+
+    //재시도 대상 처리
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.deletion.retry-interval:60000}")
+    public void requestDrain() {
+        if (drainRequested.compareAndSet(false, true)) {
+            worker.execute(() -> {
+                drainRequested.set(false);
+                drain();
+            });
+        }
+    }
+
+    private void drain() {
+        try {
+            List<S3DeletionTask> tasks;
+            do {
+                tasks = s3DeletionTaskRepository.findDue(LocalDateTime.now(), PageRequest.of(0, MAX_KEYS_PER_REQUEST));
+                if (!tasks.isEmpty()) {
+                    deleteBatch(tasks);
+                }
+            } while (tasks.size() == MAX_KEYS_PER_REQUEST);
+        } catch (RuntimeException e) {
+            log.warn("failed to drain s3 deletion queue", e);
+        } finally {
+            queueDepth.set(s3DeletionTaskRepository.count());
+        }
+    }
+
+    /**
+     * 1. 짧은 트랜잭션 : 내용(해시)별 row 를 잠그고 참조가 없는 내용을 삭제 중으로 표시한 뒤 바로 커밋
+     * 2. 트랜잭션 밖 : 저장소에서 삭제 (네트워크 호출 동안 DB 연결과 잠금을 잡지 않음)
+     * 3. 짧은 트랜잭션 : 지운 내용의 row 를 정리하고 작업 완료/재시도를 기록
+     * 삭제 중인 내용은 S3Service.store 가 다시 올리지 않고 기다리므로, 저장소에서 지운 뒤 새 업로드가 사라지지 않음
+     */
+    private void deleteBatch(List<S3DeletionTask> tasks) {
+        Claim claim = transactionTemplate.execute(status -> claim(tasks));
+
+        Set<String> failedKeys = new HashSet<>();
+        try {
+            if (!claim.keys.isEmpty()) {
+                failedKeys.addAll(objectStorage.batchDelete(claim.keys));
+            }
+        } catch (RuntimeException e) {
+            log.warn("batch delete of {} keys failed", claim.keys.size(), e);
+            failedKeys.addAll(claim.keys);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> finish(tasks, claim, failedKeys));
+        if (!failedKeys.isEmpty()) {
+            log.warn("{} storage keys will be retried", failedKeys.size());
+        }
+    }
+
+    private Claim claim(List<S3DeletionTask> tasks) {
+        Set<String> hashes = new HashSet<>();
+        tasks.forEach(task -> {
+            String hash = StoredObject.hashOf(task.getObjectKey());
+            if (hash != null) {
+                hashes.add(hash);
+            }
+        });
+        Map<String, List<StoredObject>> rowsByHash = new HashMap<>();
+        if (!hashes.isEmpty()) {
+            for (StoredObject row : storedObjectRepository.lockByHashes(hashes)) {
+                rowsByHash.computeIfAbsent(row.getSha256(), hash -> new ArrayList<>()).add(row);
+            }
+        }
+
+        //worker 는 하나라서 지금 남아 있는 삭제 중 표시는 앞에서 정리하다 실패한 것 : 다시 참조됐으면 풀어줌
+        Set<String> staleClaims = new HashSet<>();
+        rowsByHash.forEach((hash, rows) -> {
+            if (rows.stream().anyMatch(StoredObject::isDeleting) && rows.stream().anyMatch(row -> row.getRefCount() > 0)) {
+                staleClaims.add(hash);
+            }
+        });
+        if (!staleClaims.isEmpty()) {
+            storedObjectRepository.releaseClaims(staleClaims);
+        }
+
+        //내용 기준 key 는 해시 단위로 지움 : 같은 내용의 모든 원본(확장자별 row)과 공유 썸네일을 함께
+        //참조가 하나라도 있으면 지우지 않고, row 가 없으면 앞의 batch 가 이미 다 지운 것
+        Claim claim = new Claim();
+        tasks.forEach(task -> {
+            String key = task.getObjectKey();
+            String hash = StoredObject.hashOf(key);
+            if (hash == null) {
+                claim.keys.add(key);
+                return;
+            }
+            List<StoredObject> rows = rowsByHash.get(hash);
+            if (rows == null || claim.keysByHash.containsKey(hash) || rows.stream().anyMatch(row -> row.getRefCount() > 0)) {
+                return;
+            }
+            Set<String> hashKeys = new LinkedHashSet<>();
+            rows.forEach(row -> {
+                hashKeys.add(row.getObjectKey());
+                hashKeys.add(ThumbnailGenerator.thumbnailKey(row.getObjectKey()));
+            });
+            claim.keysByHash.put(hash, hashKeys);
+            claim.keys.addAll(hashKeys);
+        });
+        if (!claim.keysByHash.isEmpty()) {
+            storedObjectRepository.claimUnreferenced(claim.keysByHash.keySet());
+        }
+        return claim;
+    }
+
+    private void finish(List<S3DeletionTask> tasks, Claim claim, Set<String> failedKeys) {
+        Set<String> failedHashes = new HashSet<>();
+        claim.keysByHash.forEach((hash, keys) -> {
+            if (keys.stream().anyMatch(failedKeys::contains)) {
+                failedHashes.add(hash);
+            }
+        });
+        Set<String> deletedHashes = new HashSet<>(claim.keysByHash.keySet());
+        deletedHashes.removeAll(failedHashes);
+        if (!deletedHashes.isEmpty()) {
+            storedObjectRepository.deleteClaimed(deletedHashes);
+        }
+        if (!claim.keysByHash.isEmpty()) {
+            storedObjectRepository.releaseClaims(claim.keysByHash.keySet());
+        }
+
+        List<Long> done = new ArrayList<>();
+        //실패 횟수별로 다음 시도 시각이 달라서 묶어서 갱신
+        Map<Integer, List<Long>> retryByAttempts = new HashMap<>();
+        for (S3DeletionTask task : tasks) {
+            String hash = StoredObject.hashOf(task.getObjectKey());
+            boolean failed = hash == null ? failedKeys.contains(task.getObjectKey()) : failedHashes.contains(hash);
+            if (failed) {
+                retryByAttempts.computeIfAbsent(task.getAttempts(), attempts -> new ArrayList<>()).add(task.getDeletionId());
+            } else {
+                done.add(task.getDeletionId());
+            }
+        }
+        if (!done.isEmpty()) {
+            s3DeletionTaskRepository.deleteAllByIdInBatch(done);
+        }
+        retryByAttempts.forEach((attempts, ids) -> {
+            long backoff = BASE_BACKOFF_SECONDS << Math.min(attempts, MAX_BACKOFF_EXPONENT);
+            s3DeletionTaskRepository.retryLater(ids, LocalDateTime.now().plusSeconds(backoff));
+        });
+    }
+
+    //저장소에서 지울 key 와, 삭제 중으로 표시한 내용(해시)별 key
+    private static class Claim {
+        private final Set<String> keys = new LinkedHashSet<>();
+        private final Map<String, Set<String>> keysByHash = new HashMap<>();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+}
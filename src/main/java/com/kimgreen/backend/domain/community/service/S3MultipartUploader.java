@@ -0,0 +1,149 @@
+package com.kimgreen.backend.domain.community.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * S3 업로드 : 작은 파일은 putObject 한 번, 큰 파일은 multipart 로 나눠 병렬 업로드
+ * 요청 스트림에서 part 크기만큼 읽는 대로 바로 올리므로 임시 파일을 만들지 않고,
+ * 동시에 올리는 part 수를 제한해서 메모리는 (max-in-flight-parts + 1) * part-size 를 넘지 않는다.
+ * part 별 소요시간/처리량은 s3.upload.part, s3.upload.part.throughput 으로 확인
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3MultipartUploader {
+
+    //S3 multipart 최소 part 크기 (마지막 part 제외)
+    private static final long MIN_PART_SIZE = DataSize.ofMegabytes(5).toBytes();
+
+    private final AmazonS3 amazonS3;
+    private final int partSize;
+    private final long multipartThreshold;
+    private final int maxInFlightParts;
+    private final ExecutorService executor;
+    private final Timer partTimer;
+    private final DistributionSummary partThroughput;
+
+    public S3MultipartUploader(AmazonS3 amazonS3, MeterRegistry meterRegistry,
+                               @Value("${cloud.aws.s3.upload.part-size:8MB}") DataSize partSize,
+                               @Value("${cloud.aws.s3.upload.multipart-threshold:16MB}") DataSize multipartThreshold,
+                               @Value("${cloud.aws.s3.upload.max-in-flight-parts:4}") int maxInFlightParts,
+                               @Value("${cloud.aws.s3.upload.threads:8}") int threads) {
+        this.amazonS3 = amazonS3;
+        this.partSize = (int) Math.max(partSize.toBytes(), MIN_PART_SIZE);
+        this.multipartThreshold = Math.max(multipartThreshold.toBytes(), this.partSize);
+        this.maxInFlightParts = maxInFlightParts;
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "s3-upload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.partTimer = Timer.builder("s3.upload.part")
+                .description("S3 multipart part 업로드 시간")
+                .register(meterRegistry);
+        this.partThroughput = DistributionSummary.builder("s3.upload.part.throughput")
+                .description("S3 multipart part 처리량")
+                .baseUnit("bytes/s")
+                .register(meterRegistry);
+    }
+
+    //size : 알 수 없으면 -1 (multipart 로 올림)
+    public void upload(String bucket, String key, InputStream inputStream, long size, String contentType) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        if (size >= 0 && size < multipartThreshold) {
+            metadata.setContentLength(size);
+            amazonS3.putObject(bucket, key, inputStream, metadata);
+            return;
+        }
+
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId();
+        Semaphore inFlight = new Semaphore(maxInFlightParts);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Future<PartETag>> parts = new ArrayList<>();
+        try {
+            int partNumber = 1;
+            byte[] buffer;
+            //실패한 part 가 있으면 나머지는 읽지 않음
+            while (failure.get() == null && (buffer = inputStream.readNBytes(partSize)).length > 0) {
+                inFlight.acquire();
+                byte[] part = buffer;
+                int number = partNumber++;
+                parts.add(executor.submit(() -> {
+                    try {
+                        return uploadPart(bucket, key, uploadId, number, part);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                        throw e;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+
+            List<PartETag> partETags = new ArrayList<>(parts.size());
+            for (Future<PartETag> future : parts) {
+                partETags.add(future.get());
+            }
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(bucket, key, uploadId, parts);
+            throw new IOException("S3 업로드가 중단되었습니다. key=" + key, e);
+        } catch (ExecutionException e) {
+            abort(bucket, key, uploadId, parts);
+            throw new IOException("S3 part 업로드에 실패했습니다. key=" + key, e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abort(bucket, key, uploadId, parts);
+            throw e;
+        }
+    }
+
+    private PartETag uploadPart(String bucket, String key, String uploadId, int partNumber, byte[] part) {
+        long start = System.nanoTime();
+        UploadPartResult result = amazonS3.uploadPart(new UploadPartRequest()
+                .withBucketName(bucket)
+                .withKey(key)
+                .withUploadId(uploadId)
+                .withPartNumber(partNumber)
+                .withInputStream(new ByteArrayInputStream(part))
+                .withPartSize(part.length));
+        long elapsed = Math.max(System.nanoTime() - start, 1L);
+        partTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        partThroughput.record(part.length * 1_000_000_000.0 / elapsed);
+        return result.getPartETag();
+    }
+
+    //올라간 part 가 S3에 남아 과금되지 않도록 업로드 자체를 취소
+    private void abort(String bucket, String key, String uploadId, List<Future<PartETag>> parts) {
+        parts.forEach(future -> future.cancel(true));
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (RuntimeException e) {
+            log.warn("failed to abort multipart upload {} of {}", uploadId, key, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,19 +1,27 @@
 package com.kimgreen.backend.domain.community.service;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.kimgreen.backend.domain.community.entity.Post;
 import com.kimgreen.backend.domain.community.entity.PostImg;
+import com.kimgreen.backend.domain.community.entity.StoredObject;
+import com.kimgreen.backend.domain.community.image.ThumbnailGenerator;
 import com.kimgreen.backend.domain.community.repository.PostImgRepository;
+import com.kimgreen.backend.domain.community.repository.StoredObjectRepository;
+import com.kimgreen.backend.domain.community.storage.ObjectStorage;
 import com.kimgreen.backend.domain.member.entity.MemberProfileImg;
 import com.kimgreen.backend.domain.member.repository.MemberProfileImgRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
 import java.util.UUID;
 
 @Service
@@ -21,41 +29,124 @@ import java.util.UUID;
 public class S3Service {
     private final PostImgRepository postImgRepository;
     private final MemberProfileImgRepository memberProfileImgRepository;
-    private final AmazonS3 amazonS3;
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    //실제 저장소 (storage.type : s3 / local)
+    private final ObjectStorage objectStorage;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final StoredObjectRepository storedObjectRepository;
+
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+    //삭제 worker 가 같은 내용을 지우는 동안 업로드를 미루는 간격/최대 시간 (한 batch 는 보통 1~2초)
+    private static final Duration DELETING_POLL_INTERVAL = Duration.ofMillis(100);
+    private static final Duration DELETING_WAIT_TIMEOUT = Duration.ofSeconds(30);
 
     //post에 첨부되는 이미지 업로드
     public String saveFile(MultipartFile multipartFile) throws IOException {
-        String originalFilename = multipartFile.getOriginalFilename();
-        String createdFilename = createFileName(originalFilename);
-
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(multipartFile.getSize());
-        metadata.setContentType(multipartFile.getContentType());
-
-        amazonS3.putObject(bucket, createdFilename, multipartFile.getInputStream(), metadata);
-        return createdFilename;
+        return store(multipartFile);
     }
 
     //프로필 이미지 업로드
     public String saveProfileFile(MultipartFile multipartFile) throws IOException {
-        String originalFilename = multipartFile.getOriginalFilename();
-        String createdFilename = createFileName(originalFilename);
+        return store(multipartFile);
+    }
+
+    /**
+     * 내용 기준 저장 : key = {SHA-256}.{확장자}
+     * 업로드된 파일(MultipartFile)을 한 번 읽어 해시를 구하고, 참조를 먼저 하나 늘린 뒤
+     * 아직 저장소에 없는 내용일 때만 올린다. 같은 사진을 다시 올리면 업로드 없이 같은 key 를 돌려줌
+     * 참조는 delete / deleteImage 로 돌려줘야 함
+     */
+    private String store(MultipartFile multipartFile) throws IOException {
+        String sha256 = sha256(multipartFile);
+        String key = sha256 + extension(multipartFile.getOriginalFilename());
+
+        storedObjectRepository.acquire(key, sha256, multipartFile.getSize());
+        if (storedObjectRepository.existsByObjectKeyAndStoredTrue(key)) {
+            return key;
+        }
+        //동시에 같은 내용이 처음 올라오면 둘 다 올릴 수 있음 (같은 key, 같은 내용이라 문제 없음)
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            //삭제 worker 가 같은 내용을 지우는 중이면 끝난 뒤에 올림 (먼저 올리면 worker 가 지워버림)
+            //참조를 이미 하나 잡았으므로 기다리는 동안 다시 삭제 대상이 되지는 않음
+            awaitNotDeleting(sha256);
+            objectStorage.put(key, inputStream, multipartFile.getSize(), multipartFile.getContentType());
+        } catch (IOException | RuntimeException e) {
+            delete(key);
+            throw e;
+        }
+        storedObjectRepository.markStored(key);
+        return key;
+    }
 
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(multipartFile.getSize());
-        metadata.setContentType(multipartFile.getContentType());
+    private void awaitNotDeleting(String sha256) {
+        long deadline = System.nanoTime() + DELETING_WAIT_TIMEOUT.toNanos();
+        while (storedObjectRepository.existsBySha256AndDeletingTrue(sha256)) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("같은 내용의 저장소 객체를 삭제하는 중입니다. sha256=" + sha256);
+            }
+            try {
+                Thread.sleep(DELETING_POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    //삭제 : 참조를 하나 줄이고 마지막 참조였을 때만 삭제 큐에 넣음 (트랜잭션 커밋 후 모아서 삭제)
+    @Transactional
+    public void delete(String key) {
+        if (release(key)) {
+            s3DeletionQueue.enqueue(key);
+        }
+    }
 
-        amazonS3.putObject(bucket, createdFilename, multipartFile.getInputStream(), metadata);
+    //원본 + 썸네일 삭제 : 내용 기준 key 의 썸네일은 같은 내용을 쓰는 이미지끼리 공유하므로 원본과 함께 지움
+    @Transactional
+    public void deleteImage(String key, String thumbnailKey) {
+        if (!release(key)) {
+            return;
+        }
+        s3DeletionQueue.enqueue(key);
+        String derivedThumbnailKey = ThumbnailGenerator.thumbnailKey(key);
+        if (StoredObject.hashOf(key) != null) {
+            s3DeletionQueue.enqueue(derivedThumbnailKey);
+        } else if (thumbnailKey != null && !thumbnailKey.equals(key)) {
+            s3DeletionQueue.enqueue(thumbnailKey);
+        }
+    }
 
-        return createdFilename;
+    //더 이상 참조가 없으면 true (예전 UUID key 처럼 참조를 세지 않는 key 도 true)
+    //그 사이 같은 내용이 다시 올라와도 삭제 worker 가 row 를 잠그고 참조 수를 다시 확인한 뒤에만 삭제 중으로 표시함
+    private boolean release(String key) {
+        if (storedObjectRepository.release(key) == 0) {
+            return true;
+        }
+        Integer refCount = storedObjectRepository.findRefCount(key);
+        return refCount != null && refCount == 0;
     }
 
-    //삭제
-    public void delete(String url) {
-        amazonS3.deleteObject(bucket, url);
+    private String sha256(MultipartFile multipartFile) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            byte[] buffer = new byte[HASH_BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
     }
+
+    private String extension(String fileName) {
+        int dot = fileName == null ? -1 : fileName.lastIndexOf('.');
+        return dot < 0 ? "" : fileName.substring(dot).toLowerCase(Locale.ROOT);
+    }
+
     //db에 저장 - 필요없으면 삭제 O
     public void uploadDB(PostImg postImg) {postImgRepository.save(postImg);}
 
@@ -65,9 +156,9 @@ public class S3Service {
         return UUID.randomUUID().toString()+fileExtension;
     }
 
-    //실제 주소 얻기
+    //실제 주소 얻기 : 미리 계산한 base URL + 인코딩한 key
     public String getFullUrl(String key) {
-        return amazonS3.getUrl(bucket,key).toString();
+        return objectStorage.url(key);
     }
 
 }
\ No newline at end of file
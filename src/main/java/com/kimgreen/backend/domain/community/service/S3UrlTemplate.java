@@ -0,0 +1,55 @@
+package com.kimgreen.backend.domain.community.service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 공개 객체 URL = 미리 계산해 둔 base URL + 인코딩한 key
+ * amazonS3.getUrl 과 같은 규칙으로 인코딩한다. (영문/숫자/-_.~/ 는 그대로, 나머지는 UTF-8 %XX)
+ * key 는 대부분 UUID + 확장자라서 인코딩할 문자가 없으면 문자열 하나만 새로 만든다.
+ */
+public class S3UrlTemplate {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final String baseUrl;
+
+    //baseUrl : "/" 로 끝나는 bucket 또는 CDN 주소
+    public S3UrlTemplate(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public String url(String key) {
+        int length = key.length();
+        for (int i = 0; i < length; i++) {
+            if (!isUnreserved(key.charAt(i))) {
+                return encodeFrom(key, i);
+            }
+        }
+        return baseUrl.concat(key);
+    }
+
+    //i 번째 문자부터 인코딩
+    private String encodeFrom(String key, int start) {
+        StringBuilder builder = new StringBuilder(baseUrl.length() + key.length() * 3);
+        builder.append(baseUrl).append(key, 0, start);
+        byte[] bytes = key.substring(start).getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            char c = (char) (b & 0xFF);
+            if (isUnreserved(c)) {
+                builder.append(c);
+            } else {
+                builder.append('%').append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == '~' || c == '/';
+    }
+}
@@ -0,0 +1,124 @@
+package com.kimgreen.backend.domain.community.service;
+
+import com.kimgreen.backend.domain.community.dto.UploadTicketRequestDto;
+import com.kimgreen.backend.domain.community.dto.UploadTicketResponseDto;
+import com.kimgreen.backend.domain.community.entity.UploadPurpose;
+import com.kimgreen.backend.domain.community.entity.UploadTicket;
+import com.kimgreen.backend.domain.community.repository.UploadTicketRepository;
+import com.kimgreen.backend.domain.community.storage.ObjectStorage;
+import com.kimgreen.backend.domain.member.entity.Member;
+import com.kimgreen.backend.exception.InvalidUploadTicket;
+import com.kimgreen.backend.exception.MaxUploadSizeExceeded;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 직접 업로드 : 서버는 presigned PUT 주소와 티켓만 발급하고, 이미지는 클라이언트가 저장소에 바로 올린다.
+ * 게시글/프로필 저장 때 티켓을 쓰면 (redeem) 실제로 올라왔는지와 크기를 확인한 뒤 티켓을 지운다.
+ * 쓰지 않고 만료된 티켓의 파일은 주기적으로 삭제 큐에 넣음
+ */
+@Slf4j
+@Service
+public class UploadTicketService {
+
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+    //만료 직전에 사용 중인 티켓과 겹치지 않도록 만료 후 조금 더 기다렸다가 정리
+    private static final Duration CLEANUP_GRACE = Duration.ofMinutes(1);
+
+    private final UploadTicketRepository uploadTicketRepository;
+    private final ObjectStorage objectStorage;
+    private final S3Service s3Service;
+    private final Duration ttl;
+    private final long maxSize;
+
+    public UploadTicketService(UploadTicketRepository uploadTicketRepository, ObjectStorage objectStorage, S3Service s3Service,
+                               @Value("${storage.upload-ticket.ttl:15m}") Duration ttl,
+                               @Value("${storage.upload-ticket.max-size:50MB}") DataSize maxSize) {
+        this.uploadTicketRepository = uploadTicketRepository;
+        this.objectStorage = objectStorage;
+        this.s3Service = s3Service;
+        this.ttl = ttl;
+        this.maxSize = maxSize.toBytes();
+    }
+
+    @Transactional
+    public UploadTicketResponseDto issue(UploadTicketRequestDto requestDto, Member member) {
+        String fileName = requestDto.getFileName();
+        String contentType = requestDto.getContentType();
+        if (requestDto.getPurpose() == null || fileName == null || fileName.lastIndexOf('.') < 0
+                || contentType == null || !contentType.startsWith("image/") || requestDto.getSize() <= 0) {
+            throw new InvalidUploadTicket();
+        }
+        if (requestDto.getSize() > maxSize) {
+            throw new MaxUploadSizeExceeded();
+        }
+
+        Instant expiresAt = Instant.now().plus(ttl);
+        UploadTicket ticket = uploadTicketRepository.save(UploadTicket.builder()
+                .ticketId(UUID.randomUUID().toString())
+                .memberId(member.getMemberId())
+                .purpose(requestDto.getPurpose())
+                .objectKey(s3Service.createFileName(fileName))
+                .fileName(fileName)
+                .maxSize(requestDto.getSize())
+                .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                .build());
+
+        return UploadTicketResponseDto.builder()
+                .uploadTicket(ticket.getTicketId())
+                .uploadUrl(objectStorage.presignedPutUrl(ticket.getObjectKey(), contentType, expiresAt))
+                .expiresAt(ticket.getExpiresAt())
+                .build();
+    }
+
+    /**
+     * 티켓 사용 : 본인/용도/만료 확인 -> 저장소에 실제로 있는지, 신청한 크기 이하인지 확인 -> 티켓 삭제
+     * 트랜잭션 밖에서 호출 (저장소 확인이 네트워크 요청). 돌려받은 key 는 저장에 실패하면 s3Service.delete 로 정리
+     */
+    public UploadTicket redeem(String ticketId, Member member, UploadPurpose purpose) throws IOException {
+        UploadTicket ticket = uploadTicketRepository.findById(ticketId).orElseThrow(InvalidUploadTicket::new);
+        if (!ticket.getMemberId().equals(member.getMemberId()) || ticket.getPurpose() != purpose
+                || ticket.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new InvalidUploadTicket();
+        }
+        long size = objectStorage.size(ticket.getObjectKey());
+        if (size <= 0 || size > ticket.getMaxSize()) {
+            throw new InvalidUploadTicket();
+        }
+        if (uploadTicketRepository.consume(ticketId) == 0) {
+            throw new InvalidUploadTicket();
+        }
+        return ticket;
+    }
+
+    //사용하지 않고 만료된 티켓 정리 (올라온 파일이 있으면 삭제 큐로)
+    @Scheduled(fixedDelayString = "${storage.upload-ticket.cleanup-interval:600000}")
+    @Transactional
+    public void cleanupExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minus(CLEANUP_GRACE);
+        int cleaned = 0;
+        List<UploadTicket> expired;
+        do {
+            expired = uploadTicketRepository.findExpired(threshold, PageRequest.of(0, CLEANUP_BATCH_SIZE));
+            expired.forEach(ticket -> s3Service.delete(ticket.getObjectKey()));
+            uploadTicketRepository.deleteAllInBatch(expired);
+            cleaned += expired.size();
+        } while (expired.size() == CLEANUP_BATCH_SIZE);
+        if (cleaned > 0) {
+            log.info("cleaned up {} expired upload tickets", cleaned);
+        }
+    }
+}
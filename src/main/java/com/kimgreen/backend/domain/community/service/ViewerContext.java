@@ -0,0 +1,49 @@
+package com.kimgreen.backend.domain.community.service;
+
+import com.kimgreen.backend.domain.community.dto.LikedPostIds;
+import com.kimgreen.backend.domain.community.repository.LikeRepository;
+import com.kimgreen.backend.domain.member.entity.Member;
+import com.kimgreen.backend.domain.member.service.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Collection;
+
+/**
+ * 요청한 회원(viewer) 기준 정보
+ * 한 요청 안에서 현재 회원 조회는 한 번만 하고, 좋아요 여부는 목록 한 페이지 단위로 IN 조회 한 번에 가져온다.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class ViewerContext {
+
+    private final MemberService memberService;
+    private final LikeRepository likeRepository;
+
+    private Member viewer;
+
+    public Member getViewer() {
+        if (viewer == null) {
+            viewer = memberService.getCurrentMember();
+        }
+        return viewer;
+    }
+
+    public Long getViewerId() {
+        return getViewer().getMemberId();
+    }
+
+    public boolean isMine(Long writerId) {
+        return getViewerId().equals(writerId);
+    }
+
+    //postIds 중 viewer가 좋아요 누른 게시글
+    public LikedPostIds likedPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return LikedPostIds.empty();
+        }
+        return LikedPostIds.of(likeRepository.findLikedPostIds(getViewerId(), postIds));
+    }
+}
@@ -0,0 +1,166 @@
+package com.kimgreen.backend.domain.community.storage;
+
+import com.kimgreen.backend.domain.community.service.S3UrlTemplate;
+import com.kimgreen.backend.exception.StoredObjectNotFound;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 로컬 디스크 저장소 : AWS 없이 실행/부하 테스트하거나 서버 한 대로 운영할 때 사용
+ * 업로드는 임시 파일에 FileChannel.transferFrom 으로 받은 뒤 이름을 바꿔서, 읽는 쪽이 쓰다 만 파일을 보지 않게 한다.
+ * 파일은 StorageController(/storage/**) 가 FileChannel.transferTo 로 내려준다.
+ * 직접 업로드 주소는 key + 만료 시각을 HMAC 으로 서명한 /storage/** PUT 주소
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    //transferFrom 한 번에 요청할 최대 크기
+    private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+    private static final String TEMP_SUFFIX = ".uploading";
+    private static final String SIGNING_ALGORITHM = "HmacSHA256";
+
+    private final Path root;
+    private final S3UrlTemplate urlTemplate;
+    private final SecretKeySpec signingKey;
+
+    //signing-key 가 비어있으면 실행할 때마다 새로 만듦 (재시작하면 발급한 업로드 주소는 무효)
+    public LocalObjectStorage(@Value("${storage.local.root:./storage}") String root,
+                              @Value("${storage.local.base-url:/storage/}") String baseUrl,
+                              @Value("${storage.local.signing-key:}") String signingKey) throws IOException {
+        this.root = Files.createDirectories(Paths.get(root)).toRealPath();
+        this.urlTemplate = new S3UrlTemplate(baseUrl);
+        byte[] keyBytes;
+        if (StringUtils.hasText(signingKey)) {
+            keyBytes = signingKey.getBytes(StandardCharsets.UTF_8);
+        } else {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        }
+        this.signingKey = new SecretKeySpec(keyBytes, SIGNING_ALGORITHM);
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long size, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        try (ReadableByteChannel source = Channels.newChannel(inputStream);
+             FileChannel file = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long transferred;
+            //transferFrom 은 source 가 끝나면 0 을 돌려줌
+            while ((transferred = file.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                position += transferred;
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    //StorageController 에서 사용 : 없으면 StoredObjectNotFound
+    public FileChannel open(String key) throws IOException {
+        try {
+            return FileChannel.open(resolve(key), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            throw new StoredObjectNotFound();
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new IllegalStateException("로컬 파일 삭제에 실패했습니다. key=" + key, e);
+        }
+    }
+
+    @Override
+    public List<String> batchDelete(Collection<String> keys) {
+        List<String> failed = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException | RuntimeException e) {
+                log.warn("failed to delete local object {}", key, e);
+                failed.add(key);
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public String url(String key) {
+        return urlTemplate.url(key);
+    }
+
+    @Override
+    public String presignedPutUrl(String key, String contentType, Instant expiresAt) {
+        long expires = expiresAt.getEpochSecond();
+        return urlTemplate.url(key) + "?expires=" + expires + "&signature=" + sign(key, expires);
+    }
+
+    //StorageController 의 PUT 요청 검증
+    public boolean isValidUpload(String key, long expires, String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        return MessageDigest.isEqual(sign(key, expires).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        Path path = resolve(key);
+        return Files.exists(path) ? Files.size(path) : -1;
+    }
+
+    private String sign(String key, long expires) {
+        try {
+            Mac mac = Mac.getInstance(SIGNING_ALGORITHM);
+            mac.init(signingKey);
+            return HexFormat.of().formatHex(mac.doFinal((key + "\n" + expires).getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //root 밖으로 나가는 key (../ 등) 는 거부
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (key.isEmpty() || !path.startsWith(root) || path.equals(root) || path.toString().endsWith(TEMP_SUFFIX)) {
+            throw new StoredObjectNotFound();
+        }
+        return path;
+    }
+}
@@ -0,0 +1,34 @@
+package com.kimgreen.backend.domain.community.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이미지 원본/썸네일을 저장하는 곳
+ * storage.type 으로 구현을 고른다 : s3 (기본) / local (로컬 디스크, /storage/** 로 제공)
+ */
+public interface ObjectStorage {
+
+    //size : 알 수 없으면 -1
+    void put(String key, InputStream inputStream, long size, String contentType) throws IOException;
+
+    //호출한 쪽에서 닫아야 함
+    InputStream get(String key) throws IOException;
+
+    void delete(String key);
+
+    //지우지 못한 key 목록을 돌려줌. 요청 자체가 실패하면 예외
+    List<String> batchDelete(Collection<String> keys);
+
+    //공개 주소
+    String url(String key);
+
+    //클라이언트가 서버를 거치지 않고 바로 PUT 할 주소 (expiresAt 까지 유효, 같은 Content-Type 으로 올려야 함)
+    String presignedPutUrl(String key, String contentType, Instant expiresAt);
+
+    //저장된 객체 크기 - 없으면 -1
+    long size(String key) throws IOException;
+}
@@ -0,0 +1,112 @@
+package com.kimgreen.backend.domain.community.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.kimgreen.backend.domain.community.service.S3MultipartUploader;
+import com.kimgreen.backend.domain.community.service.S3UrlTemplate;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+
+    //S3 DeleteObjects 한 번에 지울 수 있는 최대 key 수
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+    private static final String URL_PROBE_KEY = "probe";
+
+    private final AmazonS3 amazonS3;
+    private final S3MultipartUploader s3MultipartUploader;
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+    //비어있지 않으면 이미지 주소를 CDN 기준으로 만듦 (예: https://cdn.example.com/)
+    @Value("${cloud.aws.s3.cdn-base-url:}")
+    private String cdnBaseUrl;
+
+    private S3UrlTemplate urlTemplate;
+
+    //bucket/region 주소 계산은 시작할 때 한 번만 SDK에 맡김
+    @PostConstruct
+    public void initUrlTemplate() {
+        if (StringUtils.hasText(cdnBaseUrl)) {
+            urlTemplate = new S3UrlTemplate(cdnBaseUrl);
+            return;
+        }
+        String probeUrl = amazonS3.getUrl(bucket, URL_PROBE_KEY).toString();
+        urlTemplate = new S3UrlTemplate(probeUrl.substring(0, probeUrl.length() - URL_PROBE_KEY.length()));
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long size, String contentType) throws IOException {
+        s3MultipartUploader.upload(bucket, key, inputStream, size, contentType);
+    }
+
+    @Override
+    public InputStream get(String key) {
+        return amazonS3.getObject(bucket, key).getObjectContent();
+    }
+
+    @Override
+    public void delete(String key) {
+        amazonS3.deleteObject(bucket, key);
+    }
+
+    @Override
+    public List<String> batchDelete(Collection<String> keys) {
+        List<String> all = new ArrayList<>(keys);
+        List<String> failed = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += MAX_KEYS_PER_DELETE) {
+            List<String> chunk = all.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, all.size()));
+            try {
+                amazonS3.deleteObjects(new DeleteObjectsRequest(bucket)
+                        .withKeys(chunk.toArray(new String[0]))
+                        .withQuiet(true));
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> failed.add(error.getKey()));
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public String url(String key) {
+        return urlTemplate.url(key);
+    }
+
+    //endpoint 를 설정했으면 (MinIO 등) 그 주소로 서명됨
+    @Override
+    public String presignedPutUrl(String key, String contentType, Instant expiresAt) {
+        return amazonS3.generatePresignedUrl(new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType)).toString();
+    }
+
+    @Override
+    public long size(String key) {
+        try {
+            return amazonS3.getObjectMetadata(bucket, key).getContentLength();
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return -1;
+            }
+            throw e;
+        }
+    }
+}
@@ -59,6 +59,14 @@ public class MemberController {
         return success(CHANGE_PROFILE_IMG_SUCCESS);
     }
 
+    @Operation(summary = "프로필 사진 변경하기(직접 업로드 티켓)")
+    @ResponseStatus(OK)
+    @PatchMapping("/profile-img/ticket")
+    public Response changeProfileImgByTicket(@RequestParam(name = "uploadTicket") String uploadTicket) throws IOException {
+        memberService.changeProfileImgByTicket(uploadTicket);
+        return success(CHANGE_PROFILE_IMG_SUCCESS);
+    }
+
     @Operation(summary = "설정창 정보 불러오기")
     @ResponseStatus(OK)
     @GetMapping()
@@ -29,8 +29,13 @@ public class MemberProfileImg extends AuditEntity {
     @Column(name="title")
     private String title;
 
+    //목록용 썸네일 key (생성 전이거나 실패하면 null)
+    @Column(name="thumbnail_url")
+    private String thumbnailUrl;
+
     public void changeProfileImg(String imgUrl,String title) {
         this.imgUrl = imgUrl;
         this.title = title;
+        this.thumbnailUrl = null;
     }
 }
@@ -0,0 +1,11 @@
+package com.kimgreen.backend.domain.member.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//닉네임, 프로필 이미지, 대표/프로필 뱃지 변경 후 발행 : 작성자 정보를 복사해 둔 캐시를 비우는 데 사용
+@Getter
+@AllArgsConstructor
+public class MemberProfileChangedEvent {
+    private Long memberId;
+}
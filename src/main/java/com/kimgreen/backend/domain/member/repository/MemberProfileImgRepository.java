@@ -4,10 +4,26 @@ import com.kimgreen.backend.domain.community.entity.Post;
 import com.kimgreen.backend.domain.member.entity.Member;
 import com.kimgreen.backend.domain.member.entity.MemberProfileImg;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface MemberProfileImgRepository extends JpaRepository<MemberProfileImg, Long> {
     public MemberProfileImg findByMember(Member member);
     public void deleteByMember(Member member);
+
+    @Query("select mpi from MemberProfileImg mpi where mpi.member.memberId in :memberIds")
+    List<MemberProfileImg> findByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
+    //썸네일 생성 스레드에서 호출 : 그 사이 이미지가 바뀌지 않았을 때만 기록
+    @Transactional
+    @Modifying
+    @Query("update MemberProfileImg mpi set mpi.thumbnailUrl = :thumbnailUrl where mpi.profileImgId = :id and mpi.imgUrl = :imgUrl")
+    int updateThumbnail(@Param("id") Long profileImgId, @Param("imgUrl") String imgUrl, @Param("thumbnailUrl") String thumbnailUrl);
 }
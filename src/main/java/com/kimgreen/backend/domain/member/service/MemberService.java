@@ -1,26 +1,36 @@
 package com.kimgreen.backend.domain.member.service;
 
+import com.kimgreen.backend.domain.BadgeList;
+import com.kimgreen.backend.domain.community.entity.UploadPurpose;
+import com.kimgreen.backend.domain.community.entity.UploadTicket;
 import com.kimgreen.backend.domain.community.service.S3Service;
+import com.kimgreen.backend.domain.community.service.UploadTicketService;
+import com.kimgreen.backend.domain.community.event.ImageStoredEvent;
 import com.kimgreen.backend.domain.member.dto.Auth.DeleteMemberRequestDto;
 import com.kimgreen.backend.domain.member.dto.Member.MemberInfoResponse;
 import com.kimgreen.backend.domain.member.dto.Member.SettingInfoResponseDto;
 import com.kimgreen.backend.domain.member.entity.Member;
 import com.kimgreen.backend.domain.member.entity.MemberProfileImg;
+import com.kimgreen.backend.domain.member.event.MemberProfileChangedEvent;
 import com.kimgreen.backend.domain.member.repository.MemberProfileImgRepository;
 import com.kimgreen.backend.domain.member.repository.MemberRepository;
 import com.kimgreen.backend.domain.member.repository.RefreshTokenRepository;
 import com.kimgreen.backend.domain.notification.repository.FCMTokenRepository;
-import com.kimgreen.backend.domain.profile.entity.RepresentativeBadge;
+import com.kimgreen.backend.domain.profile.entity.ProfileCard;
 import com.kimgreen.backend.domain.profile.repository.BadgeRepository;
+import com.kimgreen.backend.domain.profile.repository.DailyActivityRepository;
 import com.kimgreen.backend.domain.profile.repository.ProfileBadgeRepository;
 import com.kimgreen.backend.domain.profile.repository.RepresentativeBadgeRepository;
+import com.kimgreen.backend.domain.profile.service.ProfileCardService;
 import com.kimgreen.backend.exception.LogInFailurePassword;
 import com.kimgreen.backend.exception.LogInRequiredException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -40,6 +50,11 @@ public class MemberService {
     private final S3Service s3Service;
     private final FCMTokenRepository fcmTokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UploadTicketService uploadTicketService;
+    private final TransactionTemplate transactionTemplate;
+    private final ProfileCardService profileCardService;
+    private final DailyActivityRepository dailyActivityRepository;
 
 
 
@@ -66,9 +81,11 @@ public class MemberService {
         }
         profileBadgeRepository.deleteByMember(member);
         badgeRepository.deleteByMember(member);
+        dailyActivityRepository.deleteByMemberId(member.getMemberId());
         representativeBadgeRepository.deleteByMember(member);
         memberProfileImgRepository.deleteByMember(member);
         memberRepository.deleteByEmail(email);
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getMemberId()));
     }
 
     @Transactional
@@ -96,38 +113,63 @@ public class MemberService {
     public void changeNickname(String nickname) {
         Member member = getCurrentMember();
         member.changeNickname(nickname);
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getMemberId()));
     }
-    @Transactional
+    //업로드는 트랜잭션 밖에서 (업로드 동안 프로필 row 를 잠그지 않음), 변경만 트랜잭션으로
+    //변경이 실패하면 올린 파일의 참조를 돌려줌
     public void changeProfileImg(MultipartFile multipartFile) throws IOException {
         Member member= getCurrentMember();
-        MemberProfileImg memberProfileImg = memberProfileImgRepository.findByMember(member);
         //S3에 업로드
         String newImgUrl = s3Service.saveProfileFile(multipartFile);
         String title = multipartFile.getOriginalFilename();
 
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyProfileImg(member, newImgUrl, title));
+        } catch (RuntimeException e) {
+            s3Service.delete(newImgUrl);
+            throw e;
+        }
+    }
+
+    //직접 업로드한 사진으로 변경 : 티켓 확인(저장소 요청)은 트랜잭션 밖에서, 변경만 트랜잭션으로
+    public void changeProfileImgByTicket(String uploadTicket) throws IOException {
+        Member member = getCurrentMember();
+        UploadTicket ticket = uploadTicketService.redeem(uploadTicket, member, UploadPurpose.PROFILE);
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyProfileImg(member, ticket.getObjectKey(), ticket.getFileName()));
+        } catch (RuntimeException e) {
+            s3Service.delete(ticket.getObjectKey());
+            throw e;
+        }
+    }
+
+    private void applyProfileImg(Member member, String newImgUrl, String title) {
+        MemberProfileImg memberProfileImg = memberProfileImgRepository.findByMember(member);
+
         // 기존이미지 S3에서 삭제
-        deleteFromS3(memberProfileImg.getImgUrl());
+        deleteFromS3(memberProfileImg.getImgUrl(), memberProfileImg.getThumbnailUrl());
 
         //엔티티 변경
         memberProfileImg.changeProfileImg(newImgUrl,title);
+        eventPublisher.publishEvent(new ImageStoredEvent(ImageStoredEvent.Type.PROFILE, memberProfileImg.getProfileImgId(), newImgUrl));
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getMemberId()));
     }
 
     public SettingInfoResponseDto getSettingInfo() {
         String badgeUrl="";
         Member member = getCurrentMember();
+        ProfileCard card = profileCardService.getCard(member.getMemberId());
 
-        MemberProfileImg memberProfileImg = memberProfileImgRepository.findByMember(member);
-        String profileUrl = s3Service.getFullUrl(memberProfileImg.getImgUrl());
+        String profileUrl = s3Service.getFullUrl(card.getImgUrl());
 
-        RepresentativeBadge representativeBadge = representativeBadgeRepository.findByMember(member);
-        if(!(representativeBadge.getRepresentativeBadge().name.equals(""))) {
-            badgeUrl = s3Service.getFullUrl(representativeBadge.getRepresentativeBadge().url);
+        if(!(card.getRepresentativeBadge().name.equals(""))) {
+            badgeUrl = s3Service.getFullUrl(card.getRepresentativeBadge().url);
         }
 
         return SettingInfoResponseDto.builder()
-                .nickname(member.getNickname())
+                .nickname(card.getNickname())
                 .profileImg(profileUrl)
-                .profileBadge(representativeBadge.getRepresentativeBadge().name)
+                .profileBadge(card.getRepresentativeBadge().name)
                 .profileBadgeImg(badgeUrl)
                 .commentAgreement(member.isCommentAlarm())
                 .build();
@@ -135,18 +177,18 @@ public class MemberService {
 
     public MemberInfoResponse getMemberInfo() {
         Member member = getCurrentMember();
-        RepresentativeBadge representativeBadge = representativeBadgeRepository.findByMember(member);
+        BadgeList representativeBadge = profileCardService.getCard(member.getMemberId()).getRepresentativeBadge();
 
         return MemberInfoResponse.builder()
                 .writerEmail(member.getEmail())
-                .badge(representativeBadge.getRepresentativeBadge().name)
-                .badgeImg(s3Service.getFullUrl(representativeBadge.getRepresentativeBadge().url))
+                .badge(representativeBadge.name)
+                .badgeImg(s3Service.getFullUrl(representativeBadge.url))
                 .build();
     }
 
-    public void deleteFromS3(String urlToDelete) {
+    public void deleteFromS3(String urlToDelete, String thumbnailToDelete) {
         if(!(urlToDelete.equals("profile.jpg"))) {
-            s3Service.delete(urlToDelete);
+            s3Service.deleteImage(urlToDelete, thumbnailToDelete);
         }
     }
 
@@ -2,12 +2,16 @@ package com.kimgreen.backend.domain.notification.entity;
 
 import com.kimgreen.backend.domain.AuditEntity;
 import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Entity
 @Builder
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class FCMToken extends AuditEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
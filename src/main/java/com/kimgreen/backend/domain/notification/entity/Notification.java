@@ -4,19 +4,24 @@ import com.kimgreen.backend.domain.AuditEntity;
 import com.kimgreen.backend.domain.community.entity.Comment;
 import com.kimgreen.backend.domain.member.entity.Member;
 import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Entity
 @Builder
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class Notification extends AuditEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name="fcm_token_id")
     private Long fcmTokenId;
 
-    @OneToOne
+    //한 회원이 여러 알림을 받음
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="member_id")
     private Member member;
 
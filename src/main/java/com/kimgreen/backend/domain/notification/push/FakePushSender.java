@@ -0,0 +1,59 @@
+package com.kimgreen.backend.domain.notification.push;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실제로 보내지 않는 sender : Firebase 없이 로컬 실행/부하 테스트할 때 (notification.push.sender=fake)
+ * 배치마다 latency 만큼 기다려서 FCM 호출 시간을 흉내 내고, "invalid" 로 시작하는 토큰은 INVALID_TOKEN 으로 돌려준다.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.push.sender", havingValue = "fake")
+public class FakePushSender implements PushSender {
+
+    private static final String INVALID_TOKEN_PREFIX = "invalid";
+
+    private final Duration latency;
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+
+    public FakePushSender(@Value("${notification.push.fake.latency:50ms}") Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public List<PushResult> sendAll(List<PushMessage> messages) {
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        batches.incrementAndGet();
+        List<PushResult> results = new ArrayList<>(messages.size());
+        for (PushMessage message : messages) {
+            if (message.getToken().startsWith(INVALID_TOKEN_PREFIX)) {
+                results.add(PushResult.INVALID_TOKEN);
+            } else {
+                delivered.incrementAndGet();
+                results.add(PushResult.SUCCESS);
+            }
+        }
+        return results;
+    }
+
+    public long getBatches() {
+        return batches.get();
+    }
+
+    public long getDelivered() {
+        return delivered.get();
+    }
+}
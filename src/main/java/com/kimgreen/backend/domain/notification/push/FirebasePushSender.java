@@ -0,0 +1,107 @@
+package com.kimgreen.backend.domain.notification.push;
+
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.ErrorCode;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.messaging.*;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@ConditionalOnProperty(name = "notification.push.sender", havingValue = "firebase", matchIfMissing = true)
+public class FirebasePushSender implements PushSender {
+
+    //FirebaseMessagingException.getMessagingErrorCode() 기준
+    private static final Set<MessagingErrorCode> RETRYABLE_ERRORS = EnumSet.of(
+            MessagingErrorCode.INTERNAL, MessagingErrorCode.UNAVAILABLE, MessagingErrorCode.QUOTA_EXCEEDED);
+    //메시지는 서버가 만드므로 INVALID_ARGUMENT 는 형식이 틀린 토큰
+    private static final Set<MessagingErrorCode> INVALID_TOKEN_ERRORS = EnumSet.of(
+            MessagingErrorCode.UNREGISTERED, MessagingErrorCode.INVALID_ARGUMENT, MessagingErrorCode.SENDER_ID_MISMATCH);
+    //요청 자체가 실패했을 때 (getMessagingErrorCode() 가 없음)
+    private static final Set<ErrorCode> RETRYABLE_REQUEST_ERRORS = EnumSet.of(
+            ErrorCode.INTERNAL, ErrorCode.UNAVAILABLE, ErrorCode.DEADLINE_EXCEEDED, ErrorCode.RESOURCE_EXHAUSTED);
+
+    @Value("${fcm.key.path}")
+    private String FCM_PRIVATE_KEY_PATH;
+
+    // 권한 설정
+    @Value("${fcm.key.scope}")
+    private String fireBaseScope;
+
+    // fcm 기본 설정 진행
+    // 이 과정에서 access token은 firebase가 자동 처리
+    @PostConstruct
+    public void init() {
+        try {
+            GoogleCredentials googleCredentials = GoogleCredentials
+                    .fromStream(new ClassPathResource(FCM_PRIVATE_KEY_PATH).getInputStream())
+                    .createScoped(List.of(fireBaseScope));
+
+            FirebaseOptions options = FirebaseOptions.builder()
+                    .setCredentials(googleCredentials)
+                    .build();
+
+            if (FirebaseApp.getApps().isEmpty()) {
+                FirebaseApp.initializeApp(options);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+
+    @Override
+    public List<PushResult> sendAll(List<PushMessage> messages) {
+        List<Message> fcmMessages = new ArrayList<>(messages.size());
+        for (PushMessage message : messages) {
+            fcmMessages.add(Message.builder()
+                    .setNotification(new Notification(message.getTitle(), message.getBody()))
+                    .setToken(message.getToken())
+                    .putAllData(message.getData())
+                    .build());
+        }
+
+        //sendAll 이 쓰던 batch 엔드포인트는 종료됨 : sendEach 는 메시지마다 HTTP v1 요청을 보내고 결과를 모아 줌
+        BatchResponse batchResponse;
+        try {
+            batchResponse = FirebaseMessaging.getInstance().sendEach(fcmMessages);
+        } catch (FirebaseMessagingException e) {
+            PushResult result = toResult(e);
+            List<PushResult> results = new ArrayList<>(messages.size());
+            messages.forEach(message -> results.add(result));
+            return results;
+        }
+
+        List<PushResult> results = new ArrayList<>(messages.size());
+        for (SendResponse response : batchResponse.getResponses()) {
+            results.add(response.isSuccessful() ? PushResult.SUCCESS : toResult(response.getException()));
+        }
+        return results;
+    }
+
+    private PushResult toResult(FirebaseMessagingException e) {
+        if (e == null) {
+            return PushResult.FAILED;
+        }
+        MessagingErrorCode messagingErrorCode = e.getMessagingErrorCode();
+        if (messagingErrorCode == null) {
+            return RETRYABLE_REQUEST_ERRORS.contains(e.getErrorCode()) ? PushResult.RETRYABLE : PushResult.FAILED;
+        }
+        if (RETRYABLE_ERRORS.contains(messagingErrorCode)) {
+            return PushResult.RETRYABLE;
+        }
+        if (INVALID_TOKEN_ERRORS.contains(messagingErrorCode)) {
+            return PushResult.INVALID_TOKEN;
+        }
+        return PushResult.FAILED;
+    }
+}
@@ -0,0 +1,192 @@
+package com.kimgreen.backend.domain.notification.push;
+
+import com.kimgreen.backend.domain.notification.repository.FCMTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * 푸시 전송 엔진 : 들어온 메시지를 짧은 시간(batch-window) 모았다가 최대 500개씩 한 번에 보낸다.
+ * 재시도 가능한 실패는 지터를 준 지수 백오프로 다시 큐에 넣고, 쓸 수 없는 토큰은 FCMToken 에서 지운다.
+ * 큐 길이 push.queue.depth, 배치 크기 push.batch.size, 결과 push.messages{result=...}
+ */
+@Slf4j
+@Component
+public class PushDispatcher {
+
+    private static final long MAX_BACKOFF_MILLIS = Duration.ofMinutes(5).toMillis();
+
+    private final PushSender pushSender;
+    private final FCMTokenRepository fcmTokenRepository;
+    private final long batchWindowNanos;
+    private final long baseBackoffMillis;
+    private final int maxAttempts;
+    private final BlockingQueue<PendingPush> queue;
+    private final ScheduledExecutorService retryScheduler;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    private final DistributionSummary batchSize;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter invalidToken;
+    private final Counter failed;
+    private final Counter dropped;
+
+    @Getter
+    @AllArgsConstructor
+    private static class PendingPush {
+        private final PushMessage message;
+        private final int attempts;
+    }
+
+    public PushDispatcher(PushSender pushSender, FCMTokenRepository fcmTokenRepository, MeterRegistry meterRegistry,
+                          @Value("${notification.push.batch-window:100ms}") Duration batchWindow,
+                          @Value("${notification.push.queue-capacity:10000}") int queueCapacity,
+                          @Value("${notification.push.retry.base-backoff:1s}") Duration baseBackoff,
+                          @Value("${notification.push.retry.max-attempts:5}") int maxAttempts) {
+        this.pushSender = pushSender;
+        this.fcmTokenRepository = fcmTokenRepository;
+        this.batchWindowNanos = batchWindow.toNanos();
+        this.baseBackoffMillis = baseBackoff.toMillis();
+        this.maxAttempts = maxAttempts;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "push-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("push.queue.depth", queue, BlockingQueue::size)
+                .description("전송을 기다리는 푸시 수")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("push.batch.size")
+                .description("한 번에 보낸 푸시 수")
+                .register(meterRegistry);
+        this.sent = result(meterRegistry, "sent");
+        this.retried = result(meterRegistry, "retried");
+        this.invalidToken = result(meterRegistry, "invalid_token");
+        this.failed = result(meterRegistry, "failed");
+        this.dropped = result(meterRegistry, "dropped");
+
+        this.dispatcher = new Thread(this::dispatchLoop, "push-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    private static Counter result(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("push.messages")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    //기다리지 않음 : 큐가 가득 차면 버림
+    public void enqueue(PushMessage message) {
+        if (!queue.offer(new PendingPush(message, 0))) {
+            dropped.increment();
+            log.warn("push queue is full, drop message");
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                PendingPush first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingPush> batch = new ArrayList<>();
+                batch.add(first);
+                //첫 메시지부터 batch-window 동안 모으거나 500개가 차면 전송
+                long deadline = System.nanoTime() + batchWindowNanos;
+                while (batch.size() < PushSender.MAX_BATCH_SIZE) {
+                    queue.drainTo(batch, PushSender.MAX_BATCH_SIZE - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= PushSender.MAX_BATCH_SIZE || remaining <= 0) {
+                        break;
+                    }
+                    PendingPush next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("push dispatch failed", e);
+            }
+        }
+    }
+
+    private void send(List<PendingPush> batch) {
+        List<PushMessage> messages = new ArrayList<>(batch.size());
+        batch.forEach(pending -> messages.add(pending.getMessage()));
+        batchSize.record(batch.size());
+
+        List<PushResult> results;
+        try {
+            results = pushSender.sendAll(messages);
+        } catch (RuntimeException e) {
+            log.warn("push batch of {} failed", batch.size(), e);
+            batch.forEach(this::retry);
+            return;
+        }
+
+        Set<String> invalidTokens = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            switch (results.get(i)) {
+                case SUCCESS -> sent.increment();
+                case RETRYABLE -> retry(batch.get(i));
+                case INVALID_TOKEN -> {
+                    invalidToken.increment();
+                    invalidTokens.add(batch.get(i).getMessage().getToken());
+                }
+                default -> failed.increment();
+            }
+        }
+        if (!invalidTokens.isEmpty()) {
+            fcmTokenRepository.deleteByFcmTokenIn(invalidTokens);
+        }
+    }
+
+    //base * 2^attempts 에 0.5 ~ 1.5 배 지터 (동시에 실패한 메시지가 한꺼번에 다시 몰리지 않도록)
+    private void retry(PendingPush pending) {
+        int attempts = pending.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            failed.increment();
+            return;
+        }
+        retried.increment();
+        long backoff = Math.min(baseBackoffMillis << Math.min(pending.getAttempts(), 20), MAX_BACKOFF_MILLIS);
+        long delay = (long) (backoff * (0.5 + ThreadLocalRandom.current().nextDouble()));
+        retryScheduler.schedule(() -> {
+            if (!queue.offer(new PendingPush(pending.getMessage(), attempts))) {
+                dropped.increment();
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+        retryScheduler.shutdown();
+    }
+}
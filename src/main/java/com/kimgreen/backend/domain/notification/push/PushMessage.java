@@ -0,0 +1,21 @@
+package com.kimgreen.backend.domain.notification.push;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+//보낼 푸시 한 건 (FCM Message 로 바꾸기 전 형태라 가짜 sender 에서도 그대로 사용)
+@Getter
+@AllArgsConstructor
+public class PushMessage {
+    private String token;
+    private String title;
+    private String body;
+    private Map<String, String> data;
+
+    public static PushMessage comment(String token, String senderId, String receiverId, String receiverName, String content) {
+        return new PushMessage(token, "새 댓글이 작성되었습니다.", content,
+                Map.of("senderId", senderId, "receiverId", receiverId, "receiverName", receiverName));
+    }
+}
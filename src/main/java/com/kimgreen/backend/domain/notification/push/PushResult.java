@@ -0,0 +1,10 @@
+package com.kimgreen.backend.domain.notification.push;
+
+public enum PushResult {
+    SUCCESS,
+    //잠시 후 다시 보내면 되는 오류 (서버 오류, 전송량 초과)
+    RETRYABLE,
+    //더 이상 쓸 수 없는 토큰 -> 삭제
+    INVALID_TOKEN,
+    FAILED
+}
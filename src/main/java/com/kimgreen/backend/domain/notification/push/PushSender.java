@@ -0,0 +1,15 @@
+package com.kimgreen.backend.domain.notification.push;
+
+import java.util.List;
+
+/**
+ * 푸시 전송 : notification.push.sender 로 구현을 고른다 - firebase (기본) / fake (실제로 보내지 않음)
+ * 결과는 messages 와 같은 순서. 요청 자체가 실패하면 예외
+ */
+public interface PushSender {
+
+    //한 번에 보낼 수 있는 최대 메시지 수 (FCM sendEach 제한)
+    int MAX_BATCH_SIZE = 500;
+
+    List<PushResult> sendAll(List<PushMessage> messages);
+}
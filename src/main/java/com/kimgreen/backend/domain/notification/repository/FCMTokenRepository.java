@@ -2,11 +2,23 @@ package com.kimgreen.backend.domain.notification.repository;
 
 import com.kimgreen.backend.domain.notification.entity.FCMToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
 
 @Repository
 public interface FCMTokenRepository extends JpaRepository<FCMToken,Long> {
     public FCMToken findByReceiverId(String email);
     public boolean existsByReceiverId(String email);
     public void deleteByReceiverId(String email);
+
+    //FCM 이 더 이상 쓸 수 없다고 응답한 토큰 정리
+    @Transactional
+    @Modifying
+    @Query("delete from FCMToken t where t.fcmToken in :tokens")
+    int deleteByFcmTokenIn(@Param("tokens") Collection<String> tokens);
 }
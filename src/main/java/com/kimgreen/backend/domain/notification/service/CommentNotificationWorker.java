@@ -0,0 +1,98 @@
+package com.kimgreen.backend.domain.notification.service;
+
+import com.kimgreen.backend.domain.community.event.CommentCreatedEvent;
+import com.kimgreen.backend.domain.notification.push.PushDispatcher;
+import com.kimgreen.backend.domain.notification.push.PushMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 알림 : 댓글이 커밋된 뒤 별도 스레드에서 Notification 저장 + 푸시 전송 큐(PushDispatcher)에 넣기
+ * 큐가 가득 차면 댓글을 쓴 요청 스레드가 직접 처리해서 (CallerRunsPolicy) 생산 속도를 늦춘다.
+ * (이때는 커밋된 댓글 트랜잭션이 아직 스레드에 묶여 있어서 저장은 REQUIRES_NEW 로 따로 커밋 - NotificationService)
+ * 큐 길이 notification.comment.queue.depth, 큐 대기 시간 notification.comment.lag,
+ * 처리 결과 notification.comment.processed{result=queued|skipped|failed}
+ */
+@Slf4j
+@Component
+public class CommentNotificationWorker {
+
+    private final NotificationService notificationService;
+    private final PushDispatcher pushDispatcher;
+    private final ThreadPoolExecutor executor;
+    private final Timer lag;
+    private final Counter queued;
+    private final Counter skipped;
+    private final Counter failed;
+
+    public CommentNotificationWorker(NotificationService notificationService, PushDispatcher pushDispatcher, MeterRegistry meterRegistry,
+                                     @Value("${notification.comment.threads:4}") int threads,
+                                     @Value("${notification.comment.queue-capacity:1000}") int queueCapacity) {
+        this.notificationService = notificationService;
+        this.pushDispatcher = pushDispatcher;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "comment-notification");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        Gauge.builder("notification.comment.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("처리를 기다리는 댓글 알림 수")
+                .register(meterRegistry);
+        this.lag = Timer.builder("notification.comment.lag")
+                .description("댓글 커밋부터 알림 처리 시작까지 걸린 시간")
+                .register(meterRegistry);
+        this.queued = processed(meterRegistry, "queued");
+        this.skipped = processed(meterRegistry, "skipped");
+        this.failed = processed(meterRegistry, "failed");
+    }
+
+    private static Counter processed(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("notification.comment.processed")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        long enqueuedAt = System.nanoTime();
+        executor.execute(() -> {
+            lag.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            process(event);
+        });
+    }
+
+    private void process(CommentCreatedEvent event) {
+        try {
+            PushMessage message = notificationService.saveCommentNotification(event);
+            if (message == null) {
+                skipped.increment();
+                return;
+            }
+            pushDispatcher.enqueue(message);
+            queued.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("failed to notify comment {} of post {}", event.getCommentId(), event.getPostId(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
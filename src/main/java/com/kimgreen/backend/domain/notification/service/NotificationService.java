@@ -1,50 +1,56 @@
 package com.kimgreen.backend.domain.notification.service;
 
-import com.kimgreen.backend.domain.community.entity.Post;
-import com.kimgreen.backend.domain.community.repository.PostRepository;
+import com.kimgreen.backend.domain.community.event.CommentCreatedEvent;
 import com.kimgreen.backend.domain.member.entity.Member;
 import com.kimgreen.backend.domain.member.repository.MemberRepository;
 import com.kimgreen.backend.domain.member.service.MemberService;
 import com.kimgreen.backend.domain.notification.dto.NotificationResponseDto;
+import com.kimgreen.backend.domain.notification.entity.FCMToken;
 import com.kimgreen.backend.domain.notification.entity.Notification;
+import com.kimgreen.backend.domain.notification.push.PushMessage;
+import com.kimgreen.backend.domain.notification.repository.FCMTokenRepository;
 import com.kimgreen.backend.domain.notification.repository.NotificationRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
-import java.util.Optional;
-
 @Service
 @AllArgsConstructor
 public class NotificationService {
-    private final FCMService fcmService;
-    private final PostRepository postRepository;
     private final MemberRepository memberRepository;
     private final NotificationRepository notificationRepository;
+    private final FCMTokenRepository fcmTokenRepository;
     private final MemberService memberService;
 
 
-    //댓글 작성하기 API에서 호출
-    @Transactional
-    public void commentNotification(Long postId, String senderId, String receiverId,String content) {
-        Member sender = memberRepository.findByEmail(senderId);
-        Member receiver = memberRepository.findByEmail(receiverId);
-        Optional<Post> post = postRepository.findById(postId);
-        try{
-            if(post.isPresent()) {
-                fcmService.sendMessageTo(senderId, receiverId, content);
-                notificationRepository.save(Notification.builder()
-                                .member(receiver)
-                                .content(content)
-                                .postId(postId)
-                                .build());
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+    //댓글 알림 저장 (CommentNotificationWorker 에서 호출)
+    //본인 글에 단 댓글이거나 받는 사람이 댓글 알림을 꺼뒀으면 저장하지 않고 null
+    //저장했으면 보낼 푸시 (등록된 FCM 토큰이 없으면 null)
+    //큐가 가득 차면 댓글 커밋 직후(AFTER_COMMIT) 요청 스레드에서 불림 : 끝난 트랜잭션에 참여하면 저장이 커밋되지 않으므로 항상 새 트랜잭션
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public PushMessage saveCommentNotification(CommentCreatedEvent event) {
+        if (event.getWriterId().equals(event.getPostWriterId())) {
+            return null;
+        }
+        Member receiver = memberRepository.findById(event.getPostWriterId()).orElse(null);
+        if (receiver == null || !receiver.isCommentAlarm()) {
+            return null;
+        }
+        notificationRepository.save(Notification.builder()
+                        .member(receiver)
+                        .content(event.getContent())
+                        .postId(event.getPostId())
+                        .build());
+
+        FCMToken fcmToken = fcmTokenRepository.findByReceiverId(receiver.getEmail());
+        if (fcmToken == null || fcmToken.getFcmToken() == null) {
+            return null;
         }
+        return PushMessage.comment(fcmToken.getFcmToken(), event.getWriterEmail(), receiver.getEmail(),
+                receiver.getNickname(), event.getContent());
     }
 
     @Transactional(readOnly = true)
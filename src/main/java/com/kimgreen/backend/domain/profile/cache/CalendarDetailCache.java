@@ -0,0 +1,83 @@
+package com.kimgreen.backend.domain.profile.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kimgreen.backend.domain.community.dto.PostRowDto;
+import com.kimgreen.backend.domain.community.event.CommentChangedEvent;
+import com.kimgreen.backend.domain.community.event.PostDeletedEvent;
+import com.kimgreen.backend.domain.community.event.PostLikedEvent;
+import com.kimgreen.backend.domain.community.event.PostSavedEvent;
+import com.kimgreen.backend.domain.member.event.MemberProfileChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 달력 상세 캐시 : (회원, 날짜) -> 그날 쓴 글 row (보는 사람과 상관없는 부분만, isLiked 는 요청마다 계산)
+ * 지난 날짜는 거의 바뀌지 않으므로 글 작성/수정/삭제, 좋아요, 댓글, 작성자 프로필 변경이 커밋된 뒤에만 해당 항목을 지운다.
+ * 적중/실패 수는 actuator metrics 의 cache.gets{cache=calendar.detail} 로 확인
+ */
+@Component
+public class CalendarDetailCache {
+
+    private final Cache<Key, List<PostRowDto>> cache;
+
+    public CalendarDetailCache(MeterRegistry meterRegistry,
+                               @Value("${calendar.cache.detail.maximum-size:10000}") long maximumSize,
+                               @Value("${calendar.cache.detail.ttl:1h}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "calendar.detail");
+    }
+
+    public List<PostRowDto> get(Long memberId, LocalDate day, Function<Key, List<PostRowDto>> loader) {
+        return cache.get(new Key(memberId, day), key -> List.copyOf(loader.apply(key)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostSaved(PostSavedEvent event) {
+        cache.invalidate(new Key(event.getWriterId(), event.getCreatedAt().toLocalDate()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        cache.invalidate(new Key(event.getWriterId(), event.getCreatedAt().toLocalDate()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostLiked(PostLikedEvent event) {
+        cache.invalidate(new Key(event.getPostWriterId(), event.getPostCreatedAt().toLocalDate()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        cache.invalidate(new Key(event.getPostWriterId(), event.getPostCreatedAt().toLocalDate()));
+    }
+
+    //작성자 정보가 바뀌면 그 회원의 날짜 전체를 지움 (드문 변경이라 키를 훑음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberProfileChanged(MemberProfileChangedEvent event) {
+        cache.asMap().keySet().removeIf(key -> key.getMemberId().equals(event.getMemberId()));
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    public static class Key {
+        private final Long memberId;
+        private final LocalDate day;
+    }
+}
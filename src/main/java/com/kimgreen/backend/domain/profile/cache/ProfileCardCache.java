@@ -0,0 +1,45 @@
+package com.kimgreen.backend.domain.profile.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kimgreen.backend.domain.member.event.MemberProfileChangedEvent;
+import com.kimgreen.backend.domain.profile.entity.ProfileCard;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 프로필 카드 캐시 : memberId -> ProfileCard
+ * 프로필 변경 이벤트가 커밋된 뒤 해당 회원 항목을 지운다.
+ * 적중/실패 수는 actuator metrics 의 cache.gets{cache=profile.card} 로 확인
+ */
+@Component
+public class ProfileCardCache {
+
+    private final Cache<Long, ProfileCard> cache;
+
+    public ProfileCardCache(MeterRegistry meterRegistry,
+                            @Value("${profile.cache.card.maximum-size:10000}") long maximumSize,
+                            @Value("${profile.cache.card.ttl:30m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "profile.card");
+    }
+
+    public ProfileCard get(Long memberId, Function<Long, ProfileCard> loader) {
+        return cache.get(memberId, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberProfileChanged(MemberProfileChangedEvent event) {
+        cache.invalidate(event.getMemberId());
+    }
+}
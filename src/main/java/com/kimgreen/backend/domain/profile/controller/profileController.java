@@ -2,14 +2,19 @@ package com.kimgreen.backend.domain.profile.controller;
 
 import com.kimgreen.backend.domain.profile.dto.Profile.GetProfilePostDto;
 import com.kimgreen.backend.domain.profile.service.ProfileService;
+import com.kimgreen.backend.response.ContentVersions;
 import com.kimgreen.backend.response.Response;
+import com.kimgreen.backend.response.StreamingResponseWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.awt.print.Pageable;
+import java.io.IOException;
 import static com.kimgreen.backend.response.Message.*;
 import static com.kimgreen.backend.response.Response.success;
 import static org.springframework.http.HttpStatus.OK;
@@ -20,29 +25,52 @@ import static org.springframework.http.HttpStatus.OK;
 @RequiredArgsConstructor
 public class profileController {
     private final ProfileService profileService;
+    private final ContentVersions contentVersions;
+    private final StreamingResponseWriter streamingResponseWriter;
 
     @Operation(summary = "프로필 글 목록 불러오기(특정 멤버가 쓴 글 목록 불러오기)")
-    @ResponseStatus(OK)
     @GetMapping("/post")
-    public Response getProfilePosts(@RequestParam("memberId") Long memberId) {
-        return success(PROFILE_POSTS_SUCCESS, profileService.response(memberId));
+    public Response getProfilePosts(@RequestParam("memberId") Long memberId,
+                                    @RequestParam(name="cursor", required = false) String cursor,
+                                    @RequestParam(name="size", required = false) Integer size,
+                                    HttpServletResponse response) throws IOException {
+        //cursor, size 둘 다 없으면 기존처럼 전체 목록 반환 (응답에 바로 씀)
+        if (cursor == null && size == null) {
+            streamingResponseWriter.success(response, PROFILE_POSTS_SUCCESS, profileService.getProfilePosts(memberId));
+            return null;
+        }
+        return success(PROFILE_POSTS_SUCCESS, profileService.getProfilePostPage(memberId, cursor, size));
     }
     @Operation(summary = "프로필 정보 불러오기")
-    @ResponseStatus(OK)
     @GetMapping()
-    public Response getProfileInfo(@RequestParam("memberId") Long memberId) {
+    public Response getProfileInfo(@RequestParam("memberId") Long memberId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(contentVersions.profileETag(memberId))) {
+            return null;
+        }
         return success(PROFILE_INFO_SUCCESS, profileService.getProfileInfo(memberId));
     }
     @Operation(summary = "설정창 내가 쓴 댓글 불러오기")
     @ResponseStatus(OK)
     @GetMapping("/setting/comment")
-    public Response getMyComment() {
-        return success(GET_MY_COMMENT_SUCCESS,profileService.getMyComment());
+    public Response getMyComment(@RequestParam(name="cursor", required = false) String cursor,
+                                 @RequestParam(name="size", required = false) Integer size) {
+        //cursor, size 둘 다 없으면 기존처럼 전체 목록 반환
+        if (cursor == null && size == null) {
+            return success(GET_MY_COMMENT_SUCCESS,profileService.getMyComment());
+        }
+        return success(GET_MY_COMMENT_SUCCESS, profileService.getMyCommentPage(cursor, size));
     }
 
     @Operation(summary = "설정창 내가 쓴 글 불러오기")
     @ResponseStatus(OK)
     @GetMapping("/setting/post")
-    public Response getMyPost() {return success(GET_MY_POST_SUCCESS, profileService.getMyPost());}
+    public Response getMyPost(@RequestParam(name="cursor", required = false) String cursor,
+                              @RequestParam(name="size", required = false) Integer size) {
+        //cursor, size 둘 다 없으면 기존처럼 전체 목록 반환
+        if (cursor == null && size == null) {
+            return success(GET_MY_POST_SUCCESS, profileService.getMyPost());
+        }
+        return success(GET_MY_POST_SUCCESS, profileService.getMyPostPage(cursor, size));
+    }
 
 }
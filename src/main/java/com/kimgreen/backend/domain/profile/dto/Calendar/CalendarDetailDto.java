@@ -1,5 +1,6 @@
 package com.kimgreen.backend.domain.profile.dto.Calendar;
 
+import com.kimgreen.backend.domain.community.dto.PostRowDto;
 import com.kimgreen.backend.domain.community.entity.Post;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,4 +25,17 @@ public class CalendarDetailDto {
     private String imgUrl;
     private Boolean isLiked;
 
+    public static CalendarDetailDto from(PostRowDto row, String profileImg, String imgUrl, boolean isLiked) {
+        return CalendarDetailDto.builder()
+                .postId(row.getPostId())
+                .writerNickname(row.getWriterNickname())
+                .profileImg(profileImg)
+                .writerBadge(row.getWriterBadge() == null ? "" : row.getWriterBadge().name)
+                .content(row.getContent())
+                .likeCount(row.getLikeCount())
+                .commentCount((long) row.getCommentCount())
+                .imgUrl(imgUrl)
+                .isLiked(isLiked)
+                .build();
+    }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.kimgreen.backend.domain.profile.dto.Profile;
 
-import com.kimgreen.backend.domain.member.entity.Member;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,7 +22,7 @@ public class GetProfileDto {
     private ArrayList<String> badgeImgList;
     private boolean isMine;
 
-    public GetProfileDto from(Member member,
+    public GetProfileDto from(String nickname,
                               String profileImg,
                               String profileBadge,
                               String profileBadgeImg,
@@ -31,7 +30,7 @@ public class GetProfileDto {
                               ArrayList<String> badgeImgList,
                               boolean isMine){
         return GetProfileDto.builder()
-                .nickname(member.getNickname())
+                .nickname(nickname)
                 .profileImg(profileImg)
                 .profileBadge(profileBadge)
                 .profileBadgeImg(profileBadgeImg)
@@ -1,5 +1,6 @@
 package com.kimgreen.backend.domain.profile.dto.Profile;
 
+import com.kimgreen.backend.domain.community.dto.PostRowDto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,4 +22,18 @@ public class GetProfilePostDto {
     private int commentCount;
     private String imgUrl;
     private boolean isLiked;
+
+    public static GetProfilePostDto from(PostRowDto row, String writerProfileImg, String imgUrl, boolean isLiked) {
+        return GetProfilePostDto.builder()
+                .postId(row.getPostId())
+                .writerNickname(row.getWriterNickname())
+                .writerBadge(row.getWriterBadge() == null ? "" : row.getWriterBadge().name)
+                .writerProfileImg(writerProfileImg)
+                .content(row.getContent())
+                .likeCount(row.getLikeCount())
+                .commentCount(row.getCommentCount())
+                .imgUrl(imgUrl)
+                .isLiked(isLiked)
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.kimgreen.backend.domain.profile.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 회원별 하루 작성 글 수 (달력용 집계)
+ * 게시글 작성/삭제 트랜잭션에서 DailyActivityRepository.add 로 증감한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Builder
+@Table(name = "daily_activity",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_activity_member_day", columnNames = {"member_id", "day"}))
+public class DailyActivity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name="daily_activity_id")
+    private Long dailyActivityId;
+
+    @Column(name="member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name="day", nullable = false)
+    private LocalDate day;
+
+    @Column(name="certify_count", nullable = false)
+    private int certifyCount;
+
+    @Column(name="daily_count", nullable = false)
+    private int dailyCount;
+
+    public int getPostCount() {
+        return certifyCount + dailyCount;
+    }
+}
@@ -0,0 +1,50 @@
+package com.kimgreen.backend.domain.profile.entity;
+
+import com.kimgreen.backend.domain.BadgeList;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 프로필 상단 정보 읽기 모델 : member, member_profile_img, representative_badge, profile_badge 를 한 줄로 모아 둠
+ * 원본은 각 테이블이고, MemberProfileChangedEvent 가 발행된 트랜잭션 안에서 다시 만들어진다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Builder
+@Table(name = "profile_card")
+public class ProfileCard {
+    @Id
+    @Column(name="member_id")
+    private Long memberId;
+
+    private String nickname;
+
+    //프로필 이미지 key
+    @Column(name="img_url")
+    private String imgUrl;
+
+    @Enumerated(EnumType.STRING)
+    private BadgeList representativeBadge;
+
+    @Enumerated(EnumType.STRING)
+    private BadgeList profileBadge_1;
+    @Enumerated(EnumType.STRING)
+    private BadgeList profileBadge_2;
+    @Enumerated(EnumType.STRING)
+    private BadgeList profileBadge_3;
+    @Enumerated(EnumType.STRING)
+    private BadgeList profileBadge_4;
+    @Enumerated(EnumType.STRING)
+    private BadgeList profileBadge_5;
+
+    public List<BadgeList> getProfileBadges() {
+        return List.of(profileBadge_1, profileBadge_2, profileBadge_3, profileBadge_4, profileBadge_5);
+    }
+}
@@ -0,0 +1,50 @@
+package com.kimgreen.backend.domain.profile.repository;
+
+import com.kimgreen.backend.domain.profile.entity.DailyActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyActivityRepository extends JpaRepository<DailyActivity, Long> {
+
+    //달력 : (member_id, day) 유니크 인덱스 범위 읽기
+    @Query("select d from DailyActivity d" +
+            " where d.memberId = :memberId and d.day between :start and :end" +
+            " and d.certifyCount + d.dailyCount > 0" +
+            " order by d.day")
+    List<DailyActivity> findRange(@Param("memberId") Long memberId,
+                                  @Param("start") LocalDate start,
+                                  @Param("end") LocalDate end);
+
+    void deleteByMemberId(Long memberId);
+
+    //하루 집계 증감 : 없으면 만들고 있으면 더함 (음수로 내려가지 않게)
+    @Modifying
+    @Query(value = "insert into daily_activity (member_id, day, certify_count, daily_count) " +
+            "values (:memberId, :day, greatest(:certify, 0), greatest(:daily, 0)) " +
+            "on duplicate key update certify_count = greatest(certify_count + :certify, 0), " +
+            "daily_count = greatest(daily_count + :daily, 0)", nativeQuery = true)
+    int add(@Param("memberId") Long memberId, @Param("day") LocalDate day,
+            @Param("certify") int certify, @Param("daily") int daily);
+
+    //백필 : 회원 id 구간의 집계를 post 테이블 기준으로 다시 계산
+    @Modifying
+    @Query(value = "update daily_activity set certify_count = 0, daily_count = 0 " +
+            "where member_id between :fromId and :toId", nativeQuery = true)
+    int resetRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query(value = "insert into daily_activity (member_id, day, certify_count, daily_count) " +
+            "select * from (" +
+            " select p.writer_id, date(p.created_at)," +
+            " sum(case when p.tag = 'CERTIFY' then 1 else 0 end) as certify," +
+            " sum(case when p.tag = 'DAILY' then 1 else 0 end) as daily" +
+            " from post p where p.writer_id between :fromId and :toId" +
+            " group by p.writer_id, date(p.created_at)) as agg " +
+            "on duplicate key update certify_count = agg.certify, daily_count = agg.daily", nativeQuery = true)
+    int rebuildRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
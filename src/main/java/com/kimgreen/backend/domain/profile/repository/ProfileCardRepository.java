@@ -0,0 +1,7 @@
+package com.kimgreen.backend.domain.profile.repository;
+
+import com.kimgreen.backend.domain.profile.entity.ProfileCard;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProfileCardRepository extends JpaRepository<ProfileCard, Long> {
+}
@@ -4,8 +4,16 @@ import com.kimgreen.backend.domain.member.entity.Member;
 import com.kimgreen.backend.domain.profile.entity.ProfileBadge;
 import com.kimgreen.backend.domain.profile.entity.RepresentativeBadge;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface RepresentativeBadgeRepository extends JpaRepository<RepresentativeBadge, Long> {
     public RepresentativeBadge findByMember(Member member);
     public void deleteByMember(Member member);
+
+    @Query("select rb from RepresentativeBadge rb where rb.member.memberId in :memberIds")
+    List<RepresentativeBadge> findByMemberIds(@Param("memberIds") Collection<Long> memberIds);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.kimgreen.backend.domain.profile.service;
 import com.kimgreen.backend.domain.BadgeList;
 import com.kimgreen.backend.domain.community.service.S3Service;
 import com.kimgreen.backend.domain.member.entity.Member;
+import com.kimgreen.backend.domain.member.event.MemberProfileChangedEvent;
 import com.kimgreen.backend.domain.member.service.MemberService;
 import com.kimgreen.backend.domain.profile.dto.Badge.CollectedBadgeResponseDto;
 import com.kimgreen.backend.domain.profile.dto.Badge.NotCollectedBadgeResponseDto;
@@ -16,6 +17,7 @@ import com.kimgreen.backend.domain.profile.repository.ProfileBadgeRepository;
 import com.kimgreen.backend.domain.profile.repository.RepresentativeBadgeRepository;
 import com.kimgreen.backend.exception.BadgeNotFound;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,12 +32,14 @@ public class BadgeService {
     private final RepresentativeBadgeRepository representativeBadgeRepository;
     private final MemberService memberService;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void changeRepBadge(RepBadgeRequestDto repBadgeRequestDto) {
         Member member =  memberService.getCurrentMember();
         RepresentativeBadge representativeBadge = representativeBadgeRepository.findByMember(member);
         representativeBadge.changeRepBadge(repBadgeRequestDto.getBadgeName());
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getMemberId()));
     }
 
     @Transactional
@@ -49,6 +53,7 @@ public class BadgeService {
         List<BadgeList> badgeList = toEnumList(badges);
 
         profileBadge.changeProfileBadge(badgeList);
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getMemberId()));
     }
 
     public List<CollectedBadgeResponseDto> getCollectedBadgeInfo() {
@@ -0,0 +1,59 @@
+package com.kimgreen.backend.domain.profile.service;
+
+import com.kimgreen.backend.domain.community.repository.PostRepository;
+import com.kimgreen.backend.domain.profile.repository.DailyActivityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * daily_activity 백필 : 기존 게시글로 달력 집계를 만든다.
+ * 집계 테이블이 비어 있으면(처음 배포) 시작할 때 한 번 실행되고,
+ * calendar.daily-activity.rebuild-on-startup=true 면 매번 다시 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyActivityBackfill {
+
+    private final DailyActivityRepository dailyActivityRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${calendar.daily-activity.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    //한 트랜잭션에서 다시 계산할 회원 id 구간 크기
+    @Value("${calendar.daily-activity.backfill-chunk:500}")
+    private long chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (rebuildOnStartup || dailyActivityRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    //회원 id 구간별로 나눠서 트랜잭션을 짧게 유지
+    public void rebuild() {
+        Long maxWriterId = postRepository.findMaxWriterId();
+        if (maxWriterId == null) {
+            return;
+        }
+        int rows = 0;
+        for (long from = 1; from <= maxWriterId; from += chunkSize) {
+            long fromId = from;
+            long toId = from + chunkSize - 1;
+            Integer rebuilt = transactionTemplate.execute(status -> {
+                dailyActivityRepository.resetRange(fromId, toId);
+                return dailyActivityRepository.rebuildRange(fromId, toId);
+            });
+            rows += rebuilt == null ? 0 : rebuilt;
+        }
+        log.info("rebuilt daily activity rollup up to member {} ({} rows affected)", maxWriterId, rows);
+    }
+}
@@ -0,0 +1,75 @@
+package com.kimgreen.backend.domain.profile.service;
+
+import com.kimgreen.backend.domain.member.entity.Member;
+import com.kimgreen.backend.domain.member.event.MemberProfileChangedEvent;
+import com.kimgreen.backend.domain.member.repository.MemberProfileImgRepository;
+import com.kimgreen.backend.domain.member.repository.MemberRepository;
+import com.kimgreen.backend.domain.profile.cache.ProfileCardCache;
+import com.kimgreen.backend.domain.profile.entity.ProfileBadge;
+import com.kimgreen.backend.domain.profile.entity.ProfileCard;
+import com.kimgreen.backend.domain.profile.repository.ProfileBadgeRepository;
+import com.kimgreen.backend.domain.profile.repository.ProfileCardRepository;
+import com.kimgreen.backend.domain.profile.repository.RepresentativeBadgeRepository;
+import com.kimgreen.backend.exception.MemberNotFound;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+@RequiredArgsConstructor
+public class ProfileCardService {
+
+    private final ProfileCardRepository profileCardRepository;
+    private final ProfileCardCache profileCardCache;
+    private final MemberRepository memberRepository;
+    private final MemberProfileImgRepository memberProfileImgRepository;
+    private final RepresentativeBadgeRepository representativeBadgeRepository;
+    private final ProfileBadgeRepository profileBadgeRepository;
+
+    //캐시 -> profile_card 한 줄 -> (없으면) 원본 테이블에서 만들어 저장
+    public ProfileCard getCard(Long memberId) {
+        return profileCardCache.get(memberId, this::load);
+    }
+
+    //닉네임, 프로필 이미지, 뱃지 변경과 같은 트랜잭션에서 카드도 같이 갱신 (회원 탈퇴면 삭제)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMemberProfileChanged(MemberProfileChangedEvent event) {
+        Long memberId = event.getMemberId();
+        //existsById 는 쿼리라서 같은 트랜잭션의 삭제가 먼저 반영됨
+        if (!memberRepository.existsById(memberId)) {
+            profileCardRepository.deleteById(memberId);
+            return;
+        }
+        Member member = memberRepository.findById(memberId).orElseThrow(MemberNotFound::new);
+        profileCardRepository.save(build(member));
+    }
+
+    private ProfileCard load(Long memberId) {
+        return profileCardRepository.findById(memberId).orElseGet(() -> {
+            Member member = memberRepository.findById(memberId).orElseThrow(MemberNotFound::new);
+            try {
+                return profileCardRepository.save(build(member));
+            } catch (DataIntegrityViolationException e) {
+                //다른 서버가 먼저 만든 경우
+                return profileCardRepository.findById(memberId).orElseThrow(() -> e);
+            }
+        });
+    }
+
+    private ProfileCard build(Member member) {
+        ProfileBadge profileBadge = profileBadgeRepository.findByMember(member);
+        return ProfileCard.builder()
+                .memberId(member.getMemberId())
+                .nickname(member.getNickname())
+                .imgUrl(memberProfileImgRepository.findByMember(member).getImgUrl())
+                .representativeBadge(representativeBadgeRepository.findByMember(member).getRepresentativeBadge())
+                .profileBadge_1(profileBadge.getProfileBadge_1())
+                .profileBadge_2(profileBadge.getProfileBadge_2())
+                .profileBadge_3(profileBadge.getProfileBadge_3())
+                .profileBadge_4(profileBadge.getProfileBadge_4())
+                .profileBadge_5(profileBadge.getProfileBadge_5())
+                .build();
+    }
+}
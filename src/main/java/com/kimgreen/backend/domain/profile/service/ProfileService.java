@@ -1,30 +1,25 @@
 package com.kimgreen.backend.domain.profile.service;
 
 import com.kimgreen.backend.domain.BadgeList;
+import com.kimgreen.backend.domain.community.dto.CommentCursor;
+import com.kimgreen.backend.domain.community.dto.LikedPostIds;
+import com.kimgreen.backend.domain.community.dto.PostCursor;
+import com.kimgreen.backend.domain.community.dto.PostRowDto;
 import com.kimgreen.backend.domain.community.entity.Comment;
-import com.kimgreen.backend.domain.community.entity.Likes;
-import com.kimgreen.backend.domain.community.entity.Post;
-import com.kimgreen.backend.domain.community.entity.PostImg;
 import com.kimgreen.backend.domain.community.repository.CommentRepository;
-import com.kimgreen.backend.domain.community.repository.LikeRepository;
-import com.kimgreen.backend.domain.community.repository.PostImgRepository;
 import com.kimgreen.backend.domain.community.repository.PostRepository;
 import com.kimgreen.backend.domain.community.service.S3Service;
+import com.kimgreen.backend.domain.community.service.ViewerContext;
 import com.kimgreen.backend.domain.member.entity.Member;
-import com.kimgreen.backend.domain.member.entity.MemberProfileImg;
-import com.kimgreen.backend.domain.member.repository.MemberProfileImgRepository;
-import com.kimgreen.backend.domain.member.repository.MemberRepository;
 import com.kimgreen.backend.domain.member.service.MemberService;
 import com.kimgreen.backend.domain.profile.dto.Profile.CommentResponseDto;
 import com.kimgreen.backend.domain.profile.dto.Profile.GetProfileDto;
 import com.kimgreen.backend.domain.profile.dto.Profile.GetSettingPostDto;
-import com.kimgreen.backend.domain.profile.entity.ProfileBadge;
-import com.kimgreen.backend.domain.profile.entity.RepresentativeBadge;
-import com.kimgreen.backend.domain.profile.repository.ProfileBadgeRepository;
-import com.kimgreen.backend.domain.profile.repository.RepresentativeBadgeRepository;
-import com.kimgreen.backend.exception.MemberNotFound;
-import com.kimgreen.backend.exception.PostNotFound;
+import com.kimgreen.backend.domain.profile.entity.ProfileCard;
+import com.kimgreen.backend.response.CursorPage;
+import com.kimgreen.backend.response.KeysetChunks;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import com.kimgreen.backend.domain.profile.dto.Profile.GetProfilePostDto;
 
@@ -36,105 +31,101 @@ import java.util.*;
 
 public class ProfileService {
     private final MemberService memberService;
-    private final MemberRepository memberRepository;
     private final GetProfileDto getProfileDto;
-    private final MemberProfileImgRepository memberProfileImgRepository;
     private final S3Service s3Service;
-    private final RepresentativeBadgeRepository representativeBadgeRepository;
-    private final ProfileBadgeRepository profileBadgeRepository;
     private final PostRepository postRepository;
-    private final PostImgRepository postImgRepository;
-    private final GetProfilePostDto getProfilePostDto;
     private final CommentRepository commentRepository;
-    private  final LikeRepository likeRepository;
+    private final ViewerContext viewerContext;
+    private final ProfileCardService profileCardService;
+
+    //프로필 글 목록 : chunk 단위로 이어서 읽고 응답에 바로 씀
+    public Iterator<List<GetProfilePostDto>> getProfilePosts(Long memberId) {
+        return new KeysetChunks<>(KeysetChunks.DEFAULT_CHUNK_SIZE,
+                last -> postRepository.findWriterRows(memberId,
+                        last == null ? null : last.getCreatedAt(),
+                        last == null ? null : last.getPostId(),
+                        PageRequest.of(0, KeysetChunks.DEFAULT_CHUNK_SIZE)),
+                this::toProfilePostDtos);
+    }
 
-    public List<GetProfilePostDto> response(Long memberId){
-        List<GetProfilePostDto> list = new ArrayList<>();
-        List<Post> allPostList = postRepository.findAll();
-        List<Post> postList = new ArrayList<>();
-        for(Post p : allPostList){
-            if(p.getMember().getMemberId().equals(memberId)){
-                postList.add(p);
-            }
-        }
-        for(Post p : postList) {
-            boolean isLiked = false;
-            for(Likes l : p.getLikes()){
-                if(l.getMember().getMemberId().equals(memberService.getCurrentMember().getMemberId())){
-                    isLiked = true;
-                    break;
-                }
-            }
-            if(postImgRepository.findByPost(p) == null){
-                list.add(GetProfilePostDto.builder()
-                        .postId(p.getPostId())
-                        .writerNickname(p.getMember().getNickname())
-                        .writerBadge(representativeBadgeRepository.findByMember(p.getMember()).getRepresentativeBadge().name)
-                        .writerProfileImg(s3Service.getFullUrl(memberProfileImgRepository.findByMember(p.getMember()).getImgUrl()))
-                        .content(p.getContent())
-                        .likeCount(p.getLikes().size())
-                        .commentCount(p.getComments().size())
-                        .isLiked(isLiked).build());
-            }else{ // 포스트이미지 있을때
-                list.add(GetProfilePostDto.builder()
-                        .postId(p.getPostId())
-                        .writerNickname(p.getMember().getNickname())
-                        .writerBadge(representativeBadgeRepository.findByMember(p.getMember()).getRepresentativeBadge().name)
-                        .writerProfileImg(s3Service.getFullUrl(memberProfileImgRepository.findByMember(p.getMember()).getImgUrl()))
-                        .content(p.getContent())
-                        .likeCount(p.getLikes().size())
-                        .commentCount(p.getComments().size())
-                        .imgUrl(s3Service.getFullUrl(postImgRepository.findByPost(p).getImgUrl()))
-                        .isLiked(isLiked).build());
-            }
+    //프로필 글 목록 한 페이지 : 최신순, 다음 페이지는 nextCursor
+    public CursorPage<GetProfilePostDto> getProfilePostPage(Long memberId, String cursor, Integer size) {
+        int pageSize = CursorPage.capSize(size);
+        PostCursor postCursor = PostCursor.decode(cursor);
 
+        List<PostRowDto> rows = postRepository.findWriterRows(memberId,
+                postCursor == null ? null : postCursor.getCreatedAt(),
+                postCursor == null ? null : postCursor.getPostId(),
+                PageRequest.of(0, pageSize + 1));
+
+        return CursorPage.fromOverfetch(rows, pageSize, row -> PostCursor.from(row).encode(), this::toProfilePostDtos);
+    }
+
+    //좋아요 여부는 페이지 단위로 IN 조회 한 번, 작성자/이미지는 row 에 같이 조회됨
+    private List<GetProfilePostDto> toProfilePostDtos(List<PostRowDto> rows) {
+        LikedPostIds likedPostIds = viewerContext.likedPostIds(rows.stream().map(PostRowDto::getPostId).toList());
+        List<GetProfilePostDto> list = new ArrayList<>();
+        for (PostRowDto row : rows) {
+            list.add(GetProfilePostDto.from(row,
+                    s3Service.getFullUrl(row.getListWriterProfileImg()),
+                    row.getImgUrl() == null ? null : s3Service.getFullUrl(row.getListImgUrl()),
+                    likedPostIds.contains(row.getPostId())));
         }
         return list;
     }
 
     public GetProfileDto getProfileInfo(Long memberId){
-        Member member = memberRepository.findById(memberId).orElseThrow(()-> new MemberNotFound()); // 찾고싶은 멤버
-        MemberProfileImg memberProfileImg = memberProfileImgRepository.findByMember(member);
-        RepresentativeBadge representativeBadge = representativeBadgeRepository.findByMember(member);
-        profileBadgeRepository.findByMember(member);
+        ProfileCard card = profileCardService.getCard(memberId); // 찾고싶은 멤버
 
         ArrayList<String> badgeList = new ArrayList<>();
         ArrayList<String> badgeImgList = new ArrayList<>();
 
-        ProfileBadge profileBadge = profileBadgeRepository.findByMember(member);
-        ArrayList<BadgeList> list = new ArrayList<>();
-        list.add(profileBadge.getProfileBadge_1());
-        list.add(profileBadge.getProfileBadge_2());
-        list.add(profileBadge.getProfileBadge_3());
-        list.add(profileBadge.getProfileBadge_4());
-        list.add(profileBadge.getProfileBadge_5());
-        for(BadgeList b : list){
+        for(BadgeList b : card.getProfileBadges()){
             badgeList.add(b.name);
             if(b != BadgeList.BLANK){
                 badgeImgList.add(s3Service.getFullUrl(b.url));
             }
         }
 
-        return getProfileDto.from(member,
-                s3Service.getFullUrl(memberProfileImg.getImgUrl()),
-                representativeBadge.getRepresentativeBadge().name,
-                s3Service.getFullUrl(representativeBadge.getRepresentativeBadge().url),
+        return getProfileDto.from(card.getNickname(),
+                s3Service.getFullUrl(card.getImgUrl()),
+                card.getRepresentativeBadge().name,
+                s3Service.getFullUrl(card.getRepresentativeBadge().url),
                 badgeList,
                 badgeImgList,
-                memberId.equals(memberService.getCurrentMember().getMemberId())
+                viewerContext.isMine(memberId)
         );
     }
 
     public List<CommentResponseDto> getMyComment() {
         Member member = memberService.getCurrentMember();
-        String writer = member.getNickname();
-        String writerBadge = representativeBadgeRepository.findByMember(member).getRepresentativeBadge().name;
         List<Comment> comments = commentRepository.findByMember(member);
+        return toMyCommentDtos(member, comments);
+    }
+
+    //내가 쓴 댓글 한 페이지 : 최신순, 다음 페이지는 nextCursor
+    public CursorPage<CommentResponseDto> getMyCommentPage(String cursor, Integer size) {
+        Member member = memberService.getCurrentMember();
+        int pageSize = CursorPage.capSize(size);
+        CommentCursor commentCursor = CommentCursor.decode(cursor);
+
+        List<Comment> comments = commentRepository.findMemberComments(member.getMemberId(),
+                commentCursor == null ? null : commentCursor.getCommentId(),
+                PageRequest.of(0, pageSize + 1));
+
+        return CursorPage.fromOverfetch(comments, pageSize,
+                comment -> new CommentCursor(comment.getCommentId()).encode(), page -> toMyCommentDtos(member, page));
+    }
+
+    //작성자는 모두 나 : 닉네임/뱃지는 프로필 카드 한 번, postId 는 FK 값이라 게시글을 읽지 않음
+    private List<CommentResponseDto> toMyCommentDtos(Member member, List<Comment> comments) {
+        ProfileCard card = profileCardService.getCard(member.getMemberId());
+        String writer = card.getNickname();
+        String writerBadge = card.getRepresentativeBadge().name;
 
         List<CommentResponseDto> dto = new ArrayList<>();
         for(Comment comment : comments) {
-            Post post = postRepository.findById(comment.getPost().getPostId()).orElseThrow(PostNotFound::new);
-            CommentResponseDto commentDto =  CommentResponseDto.toDto(comment.getCommentId(),post.getPostId(),writerBadge,writer,comment.getContent());
+            CommentResponseDto commentDto =  CommentResponseDto.toDto(comment.getCommentId(),comment.getPost().getPostId(),writerBadge,writer,comment.getContent());
             dto.add(commentDto);
         }
         return dto;
@@ -142,35 +133,50 @@ public class ProfileService {
 
     public List<GetSettingPostDto> getMyPost() {
         Member member = memberService.getCurrentMember();
-        String writer = member.getNickname();
-        String writerBadge = representativeBadgeRepository.findByMember(member).getRepresentativeBadge().name;
-        String writerProfileImg = s3Service.getFullUrl(memberProfileImgRepository.findByMember(member).getImgUrl());
-        List<Post> posts = postRepository.findByMember(member);
+        Iterator<List<GetSettingPostDto>> chunks = new KeysetChunks<>(KeysetChunks.DEFAULT_CHUNK_SIZE,
+                last -> postRepository.findWriterRows(member.getMemberId(),
+                        last == null ? null : last.getCreatedAt(),
+                        last == null ? null : last.getPostId(),
+                        PageRequest.of(0, KeysetChunks.DEFAULT_CHUNK_SIZE)),
+                this::toSettingPostDtos);
 
         List<GetSettingPostDto> dto = new ArrayList<>();
-        for (Post post : posts) {
-            Long countLike = likeRepository.countLike(post.getPostId());
-            List<Likes> likes = post.getLikes();
-            boolean isLiked = isLiked(likes, member);
-            Long countComment = commentRepository.countComment(post.getPostId());
-            PostImg postImg = postImgRepository.findByPost(post);
-            if (postImg != null) {
-                dto.add(GetSettingPostDto.toDto(post.getPostId(), post.getContent(), writerBadge, writer, writerProfileImg, countLike, countComment, s3Service.getFullUrl(postImg.getImgUrl()),isLiked));
-            } else {
-                dto.add(GetSettingPostDto.toDto(post.getPostId(), post.getContent(), writerBadge, writer, writerProfileImg, countLike, countComment,isLiked));
-            }
-
-        }
+        chunks.forEachRemaining(dto::addAll);
         return dto;
     }
 
-    public boolean isLiked(List<Likes> likesList, Member member) {
-        for(Likes like : likesList) {
-            if(like.getMember().getMemberId().equals(member.getMemberId())) {
-                return true;
+    //내가 쓴 글 한 페이지 : 최신순, 다음 페이지는 nextCursor
+    public CursorPage<GetSettingPostDto> getMyPostPage(String cursor, Integer size) {
+        Member member = memberService.getCurrentMember();
+        int pageSize = CursorPage.capSize(size);
+        PostCursor postCursor = PostCursor.decode(cursor);
+
+        List<PostRowDto> rows = postRepository.findWriterRows(member.getMemberId(),
+                postCursor == null ? null : postCursor.getCreatedAt(),
+                postCursor == null ? null : postCursor.getPostId(),
+                PageRequest.of(0, pageSize + 1));
+
+        return CursorPage.fromOverfetch(rows, pageSize, row -> PostCursor.from(row).encode(), this::toSettingPostDtos);
+    }
+
+    //작성자/이미지/카운트는 row 에 같이 조회됨, 좋아요 여부만 IN 조회 한 번
+    private List<GetSettingPostDto> toSettingPostDtos(List<PostRowDto> rows) {
+        LikedPostIds likedPostIds = viewerContext.likedPostIds(rows.stream().map(PostRowDto::getPostId).toList());
+
+        List<GetSettingPostDto> dto = new ArrayList<>();
+        for (PostRowDto row : rows) {
+            Long countLike = (long) row.getLikeCount();
+            boolean isLiked = likedPostIds.contains(row.getPostId());
+            Long countComment = (long) row.getCommentCount();
+            String writerBadge = row.getWriterBadge() == null ? "" : row.getWriterBadge().name;
+            String writerProfileImg = s3Service.getFullUrl(row.getWriterProfileImg());
+            if (row.getImgUrl() != null) {
+                dto.add(GetSettingPostDto.toDto(row.getPostId(), row.getContent(), writerBadge, row.getWriterNickname(), writerProfileImg, countLike, countComment, s3Service.getFullUrl(row.getImgUrl()),isLiked));
+            } else {
+                dto.add(GetSettingPostDto.toDto(row.getPostId(), row.getContent(), writerBadge, row.getWriterNickname(), writerProfileImg, countLike, countComment,isLiked));
             }
         }
-        return false;
+        return dto;
     }
 
-}
\ No newline at end of file
+}
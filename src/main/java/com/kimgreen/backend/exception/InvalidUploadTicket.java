@@ -0,0 +1,4 @@
+package com.kimgreen.backend.exception;
+
+public class InvalidUploadTicket extends RuntimeException{
+}
@@ -69,5 +69,23 @@ public class Advice {
         return Response.failure(HttpStatus.NOT_FOUND, "요청한 멤버가 존재하지 않습니다.");
     }
 
+    @ExceptionHandler(InvalidCursor.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response InvalidCursorResponse() {
+        return Response.failure(HttpStatus.BAD_REQUEST, "잘못된 형식의 커서입니다.");
+    }
+
+    @ExceptionHandler(InvalidUploadTicket.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response InvalidUploadTicketResponse() {
+        return Response.failure(HttpStatus.BAD_REQUEST, "이미지 파일 또는 업로드 티켓이 올바르지 않습니다.");
+    }
+
+    @ExceptionHandler(StoredObjectNotFound.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Response StoredObjectNotFoundResponse() {
+        return Response.failure(HttpStatus.NOT_FOUND, "요청한 파일을 찾을 수 없습니다.");
+    }
+
 
 }
@@ -0,0 +1,94 @@
+package com.kimgreen.backend.response;
+
+import com.kimgreen.backend.domain.community.event.CommentChangedEvent;
+import com.kimgreen.backend.domain.community.event.PostDeletedEvent;
+import com.kimgreen.backend.domain.community.event.PostLikedEvent;
+import com.kimgreen.backend.domain.community.event.PostSavedEvent;
+import com.kimgreen.backend.domain.member.event.MemberProfileChangedEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회 응답의 ETag 버전
+ * 변경 이벤트가 커밋된 뒤 버전을 올리고, 조회 API는 응답을 만들기 전에 버전만 비교해서 304를 돌려준다.
+ * 버전은 메모리에만 있으므로 서버가 재시작되면 bootId가 바뀌어 이전 ETag는 모두 무효가 된다.
+ */
+@Component
+public class ContentVersions {
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+
+    //게시글 목록 : 게시글/좋아요/댓글/작성자 정보 중 하나라도 바뀌면 증가
+    private final AtomicLong feedVersion = new AtomicLong();
+    //작성자 정보 (닉네임, 프로필 이미지, 뱃지)
+    private final AtomicLong writerVersion = new AtomicLong();
+    private final Map<Long, Long> postVersions = new ConcurrentHashMap<>();
+    //회원별 프로필 정보 + 작성 글 (프로필, 달력)
+    private final Map<Long, Long> memberVersions = new ConcurrentHashMap<>();
+
+    public String feedETag() {
+        return bootId + "-" + feedVersion.get() + "-" + viewerKey();
+    }
+
+    public String postETag(Long postId) {
+        return bootId + "-" + postVersions.getOrDefault(postId, 0L) + "-" + writerVersion.get() + "-" + viewerKey();
+    }
+
+    public String profileETag(Long memberId) {
+        return bootId + "-" + memberVersions.getOrDefault(memberId, 0L) + "-" + viewerKey();
+    }
+
+    //달력은 보는 사람과 상관없음
+    public String calendarETag(Long memberId) {
+        return bootId + "-" + memberVersions.getOrDefault(memberId, 0L);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostSaved(PostSavedEvent event) {
+        feedVersion.incrementAndGet();
+        bump(postVersions, event.getPostId());
+        bump(memberVersions, event.getWriterId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        feedVersion.incrementAndGet();
+        bump(postVersions, event.getPostId());
+        bump(memberVersions, event.getWriterId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostLiked(PostLikedEvent event) {
+        feedVersion.incrementAndGet();
+        bump(postVersions, event.getPostId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        feedVersion.incrementAndGet();
+        bump(postVersions, event.getPostId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberProfileChanged(MemberProfileChangedEvent event) {
+        feedVersion.incrementAndGet();
+        writerVersion.incrementAndGet();
+        bump(memberVersions, event.getMemberId());
+    }
+
+    private void bump(Map<Long, Long> versions, Long id) {
+        versions.merge(id, 1L, Long::sum);
+    }
+
+    //isLiked / isMine 이 보는 사람마다 달라서 ETag에 포함 (DB 조회 없이 인증 정보만 사용)
+    private String viewerKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "0" : Integer.toHexString(authentication.getName().hashCode());
+    }
+}
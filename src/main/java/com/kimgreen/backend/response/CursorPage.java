@@ -0,0 +1,45 @@
+package com.kimgreen.backend.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+//커서 기반 페이지 응답 : nextCursor를 그대로 다음 요청의 cursor로 넘기면 됨
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 50;
+
+    private List<T> contents;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static <T> CursorPage<T> of(List<T> contents, String nextCursor) {
+        return new CursorPage<>(contents, nextCursor, nextCursor != null);
+    }
+
+    //pageSize + 1 개를 조회한 결과로 페이지를 만듦 : 넘치면 다음 페이지가 있고, 커서는 페이지 마지막 row 로 만듦
+    //mapper 는 잘라낸 row 목록 전체를 받음 (좋아요 여부 등을 페이지 단위로 한 번에 조회하도록)
+    public static <R, T> CursorPage<T> fromOverfetch(List<R> rows, int pageSize,
+                                                    Function<R, String> cursorOf, Function<List<R>, List<T>> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        String nextCursor = hasNext ? cursorOf.apply(rows.get(rows.size() - 1)) : null;
+        return of(mapper.apply(rows), nextCursor);
+    }
+
+    //요청한 size를 1 ~ MAX_SIZE 범위로 제한
+    public static int capSize(Integer size) {
+        if(size == null || size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+}
@@ -0,0 +1,59 @@
+package com.kimgreen.backend.response;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * 키셋 조회를 chunk 단위로 이어서 읽는 iterator
+ * 직전 chunk의 마지막 row를 다음 조회의 기준으로 넘기므로 메모리에는 한 chunk만 올라간다.
+ *
+ * @param <R> DB에서 읽은 row
+ * @param <D> 응답 dto
+ */
+public class KeysetChunks<R, D> implements Iterator<List<D>> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 200;
+
+    private final int chunkSize;
+    //직전 chunk의 마지막 row (첫 조회는 null) -> 다음 chunk
+    private final Function<R, List<R>> fetchAfter;
+    private final Function<List<R>, List<D>> mapper;
+
+    private R last;
+    private boolean exhausted;
+    private List<D> pending;
+
+    public KeysetChunks(int chunkSize, Function<R, List<R>> fetchAfter, Function<List<R>, List<D>> mapper) {
+        this.chunkSize = chunkSize;
+        this.fetchAfter = fetchAfter;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pending == null && !exhausted) {
+            List<R> rows = fetchAfter.apply(last);
+            if (rows.size() < chunkSize) {
+                exhausted = true;
+            }
+            if (rows.isEmpty()) {
+                return false;
+            }
+            last = rows.get(rows.size() - 1);
+            pending = mapper.apply(rows);
+        }
+        return pending != null;
+    }
+
+    @Override
+    public List<D> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<D> chunk = pending;
+        pending = null;
+        return chunk;
+    }
+}
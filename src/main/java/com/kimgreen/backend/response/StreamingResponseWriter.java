@@ -0,0 +1,81 @@
+package com.kimgreen.backend.response;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Response 와 같은 모양({"success","code","msg","data"})으로 목록을 바로 응답 스트림에 쓴다.
+ * 전체 목록을 List로 만들지 않고 chunk를 받는 대로 직렬화해서 힙 사용량이 결과 크기와 무관해진다.
+ * 요청 스레드에서 쓰므로 인증 정보, request scope bean 을 그대로 사용할 수 있음
+ */
+@Component
+public class StreamingResponseWriter {
+
+    private final ObjectWriter writer;
+
+    public StreamingResponseWriter(ObjectMapper objectMapper) {
+        //dto 마다 flush 하지 않고 chunk 단위로 flush
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    //data : [ ... ]
+    public <T> void success(HttpServletResponse response, String msg, Iterator<List<T>> chunks) throws IOException {
+        try (JsonGenerator generator = start(response, msg)) {
+            generator.writeFieldName("data");
+            writeArray(generator, chunks);
+            generator.writeEndObject();
+        }
+    }
+
+    //data : { contentsField : [ ... ], countField : 개수 }
+    public <T> void success(HttpServletResponse response, String msg, String contentsField, String countField,
+                            Iterator<List<T>> chunks) throws IOException {
+        try (JsonGenerator generator = start(response, msg)) {
+            generator.writeObjectFieldStart("data");
+            generator.writeFieldName(contentsField);
+            long count = writeArray(generator, chunks);
+            generator.writeNumberField(countField, count);
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    private JsonGenerator start(HttpServletResponse response, String msg) throws IOException {
+        response.setStatus(OK.value());
+        response.setContentType(APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        JsonGenerator generator = writer.getFactory().createGenerator(response.getOutputStream(), JsonEncoding.UTF8);
+        generator.writeStartObject();
+        generator.writeBooleanField("success", true);
+        generator.writeNumberField("code", OK.value());
+        generator.writeStringField("msg", msg);
+        return generator;
+    }
+
+    private <T> long writeArray(JsonGenerator generator, Iterator<List<T>> chunks) throws IOException {
+        long count = 0;
+        generator.writeStartArray();
+        while (chunks.hasNext()) {
+            for (T item : chunks.next()) {
+                writer.writeValue(generator, item);
+                count++;
+            }
+            generator.flush();
+        }
+        generator.writeEndArray();
+        return count;
+    }
+}
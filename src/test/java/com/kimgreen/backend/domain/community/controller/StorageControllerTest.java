@@ -0,0 +1,159 @@
+package com.kimgreen.backend.domain.community.controller;
+
+import com.kimgreen.backend.domain.community.storage.LocalObjectStorage;
+import com.kimgreen.backend.exception.StoredObjectNotFound;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StorageControllerTest {
+
+    private static final String KEY = "post/a.txt";
+    private static final String CONTENT = "0123456789";
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage storage;
+    private StorageController controller;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new LocalObjectStorage(root.toString(), "/storage/", "test-signing-key");
+        byte[] bytes = CONTENT.getBytes(StandardCharsets.UTF_8);
+        storage.put(KEY, new ByteArrayInputStream(bytes), bytes.length, "text/plain");
+        controller = new StorageController(storage);
+    }
+
+    @Test
+    void getWithoutRangeReturnsWholeObject() throws IOException {
+        MockHttpServletResponse response = get(null);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getContentType()).isEqualTo("text/plain");
+        assertThat(response.getContentLengthLong()).isEqualTo(CONTENT.length());
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void singleRangeReturnsPartialContent() throws IOException {
+        MockHttpServletResponse response = get("bytes=2-5");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    void suffixAndOpenEndedRangesAreClampedToLength() throws IOException {
+        MockHttpServletResponse suffix = get("bytes=-3");
+        assertThat(suffix.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 7-9/10");
+        assertThat(suffix.getContentAsString()).isEqualTo("789");
+
+        MockHttpServletResponse openEnded = get("bytes=8-100");
+        assertThat(openEnded.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 8-9/10");
+        assertThat(openEnded.getContentAsString()).isEqualTo("89");
+    }
+
+    @Test
+    void rangeBeyondLengthIsNotSatisfiable() throws IOException {
+        MockHttpServletResponse response = get("bytes=20-30");
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void anyRangeOfEmptyObjectIsNotSatisfiable() throws IOException {
+        storage.put("post/empty.txt", new ByteArrayInputStream(new byte[0]), 0, "text/plain");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/storage/post/empty.txt");
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.getObject(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */0");
+    }
+
+    @Test
+    void multipleOrMalformedRangesFallBackToWholeObject() throws IOException {
+        for (String range : new String[]{"bytes=0-1,4-5", "items=0-1", "bytes=abc"}) {
+            MockHttpServletResponse response = get(range);
+
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+            assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    void missingObjectThrowsNotFound() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/storage/post/missing.txt");
+
+        assertThatThrownBy(() -> controller.getObject(request, new MockHttpServletResponse()))
+                .isInstanceOf(StoredObjectNotFound.class);
+    }
+
+    @Test
+    void putWithValidSignatureStoresObject() throws IOException {
+        UriComponents uploadUrl = uploadUrl("post/up.txt");
+
+        MockHttpServletResponse response = put("post/up.txt", uploadUrl, "uploaded");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(Files.readString(root.resolve("post/up.txt"))).isEqualTo("uploaded");
+    }
+
+    @Test
+    void putToAnotherKeyWithSameSignatureIsForbidden() throws IOException {
+        UriComponents uploadUrl = uploadUrl("post/up.txt");
+
+        MockHttpServletResponse response = put("post/other.txt", uploadUrl, "uploaded");
+
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(root.resolve("post/other.txt")).doesNotExist();
+    }
+
+    private UriComponents uploadUrl(String key) {
+        return UriComponentsBuilder.fromUriString(storage.presignedPutUrl(key, "text/plain", Instant.now().plusSeconds(600))).build();
+    }
+
+    private MockHttpServletResponse put(String key, UriComponents uploadUrl, String content) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/storage/" + key);
+        request.setContent(content.getBytes(StandardCharsets.UTF_8));
+        request.setContentType("text/plain");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.putObject(Long.parseLong(uploadUrl.getQueryParams().getFirst("expires")),
+                uploadUrl.getQueryParams().getFirst("signature"), request, response);
+        return response;
+    }
+
+    private MockHttpServletResponse get(String range) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/storage/" + KEY);
+        if (range != null) {
+            request.addHeader(HttpHeaders.RANGE, range);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.getObject(request, response);
+        return response;
+    }
+}
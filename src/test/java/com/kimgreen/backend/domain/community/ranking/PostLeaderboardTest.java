@@ -0,0 +1,164 @@
+package com.kimgreen.backend.domain.community.ranking;
+
+import com.kimgreen.backend.domain.community.dto.PostIndexRow;
+import com.kimgreen.backend.domain.community.entity.Category;
+import com.kimgreen.backend.domain.community.entity.Tag;
+import com.kimgreen.backend.domain.community.event.PostDeletedEvent;
+import com.kimgreen.backend.domain.community.event.PostLikedEvent;
+import com.kimgreen.backend.domain.community.event.PostSavedEvent;
+import com.kimgreen.backend.domain.community.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostLeaderboardTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+    private PostRepository postRepository;
+    private PostLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        leaderboard = new PostLeaderboard(postRepository, 24);
+    }
+
+    @Test
+    void bestOrdersByLikesPerCategory() {
+        rebuildWith(
+                row(1L, Category.REUSABLE, BASE, 3),
+                row(2L, Category.PLOGGING, BASE, 10),
+                row(3L, Category.REUSABLE, BASE, 7),
+                row(4L, Category.REUSABLE, BASE, 3));
+
+        assertThat(leaderboard.isReady()).isTrue();
+        //좋아요가 같으면 최신 id 먼저
+        assertThat(ids(leaderboard.top(LeaderboardType.BEST, null, 3))).containsExactly(2L, 3L, 4L);
+        assertThat(ids(leaderboard.top(LeaderboardType.BEST, Category.REUSABLE, 10))).containsExactly(3L, 4L, 1L);
+        assertThat(ids(leaderboard.top(LeaderboardType.BEST, Category.DAILY, 10))).isEmpty();
+    }
+
+    @Test
+    void trendingFavorsNewerPostsByHalfLife() {
+        //하루(반감기) 늦게 쓴 글은 좋아요가 절반이어도 조금 더 늦으면 앞섬
+        rebuildWith(
+                row(1L, Category.REUSABLE, BASE, 3),
+                row(2L, Category.REUSABLE, BASE.plusHours(25), 1));
+
+        assertThat(ids(leaderboard.top(LeaderboardType.TRENDING, null, 10))).containsExactly(2L, 1L);
+        assertThat(ids(leaderboard.top(LeaderboardType.BEST, null, 10))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void eventsUpdateOnlyTheChangedPost() {
+        rebuildWith(
+                row(1L, Category.REUSABLE, BASE, 3),
+                row(2L, Category.REUSABLE, BASE, 2));
+
+        leaderboard.onPostLiked(new PostLikedEvent(2L, 1, 1L, BASE));
+        leaderboard.onPostLiked(new PostLikedEvent(2L, 1, 1L, BASE));
+        assertThat(scores(leaderboard.top(LeaderboardType.BEST, null, 10))).containsExactly("2:4", "1:3");
+
+        //카테고리 수정은 이전 카테고리 순위표에서 빠짐
+        leaderboard.onPostSaved(new PostSavedEvent(2L, 1L, "content", Category.PLOGGING, Tag.CERTIFY, BASE));
+        assertThat(ids(leaderboard.top(LeaderboardType.BEST, Category.REUSABLE, 10))).containsExactly(1L);
+        assertThat(scores(leaderboard.top(LeaderboardType.BEST, Category.PLOGGING, 10))).containsExactly("2:4");
+
+        leaderboard.onPostDeleted(new PostDeletedEvent(2L, 1L, BASE));
+        assertThat(ids(leaderboard.top(LeaderboardType.BEST, null, 10))).containsExactly(1L);
+
+        //좋아요 수는 0 아래로 내려가지 않음
+        leaderboard.onPostLiked(new PostLikedEvent(1L, -5, 1L, BASE));
+        assertThat(scores(leaderboard.top(LeaderboardType.BEST, null, 10))).containsExactly("1:0");
+    }
+
+    @Test
+    void likeDuringRebuildIsNotCountedTwice() {
+        //적재 중에 좋아요가 눌리고, 읽어 온 row 에는 이미 그 좋아요가 들어 있는 경우
+        when(postRepository.findIndexRows(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            leaderboard.onPostLiked(new PostLikedEvent(1L, 1, 1L, BASE));
+            return List.of(row(1L, Category.REUSABLE, BASE, 5), row(2L, Category.REUSABLE, BASE, 4));
+        });
+        when(postRepository.findIndexRowsByIds(anyCollection()))
+                .thenReturn(List.of(row(1L, Category.REUSABLE, BASE, 5)));
+
+        leaderboard.rebuild();
+
+        assertThat(scores(leaderboard.top(LeaderboardType.BEST, null, 10))).containsExactly("1:5", "2:4");
+    }
+
+    @Test
+    void postDeletedDuringRebuildIsDropped() {
+        when(postRepository.findIndexRows(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            leaderboard.onPostDeleted(new PostDeletedEvent(2L, 1L, BASE));
+            return List.of(row(1L, Category.REUSABLE, BASE, 1), row(2L, Category.REUSABLE, BASE, 9));
+        });
+        when(postRepository.findIndexRowsByIds(anyCollection())).thenReturn(List.of());
+
+        leaderboard.rebuild();
+
+        assertThat(ids(leaderboard.top(LeaderboardType.BEST, null, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void rebuildWithoutConcurrentEventsDoesNotReread() {
+        rebuildWith(row(1L, Category.REUSABLE, BASE, 1));
+
+        verify(postRepository, never()).findIndexRowsByIds(anyCollection());
+    }
+
+    @Test
+    void topIsRefilledFromScoresAfterLeadersAreRemoved() {
+        //상위 목록 용량보다 많은 글 : 좋아요 수 = id
+        int total = PostLeaderboard.TOP_CAPACITY + 30;
+        List<PostIndexRow> rows = new ArrayList<>();
+        for (long id = 1; id <= total; id++) {
+            rows.add(row(id, Category.REUSABLE, BASE, (int) id));
+        }
+        rebuildWith(rows.toArray(new PostIndexRow[0]));
+
+        //상위 목록이 limit 보다 작아질 때까지 1등부터 삭제
+        int removed = PostLeaderboard.TOP_CAPACITY - 10;
+        for (long id = total; id > total - removed; id--) {
+            leaderboard.onPostDeleted(new PostDeletedEvent(id, 1L, BASE));
+        }
+
+        List<PostLeaderboard.Score> top = leaderboard.top(LeaderboardType.BEST, null, 20);
+        List<Long> expected = new ArrayList<>();
+        for (long id = total - removed; id > total - removed - 20; id--) {
+            expected.add(id);
+        }
+        assertThat(ids(top)).containsExactlyElementsOf(expected);
+    }
+
+    private void rebuildWith(PostIndexRow... rows) {
+        when(postRepository.findIndexRows(anyLong(), any(Pageable.class))).thenReturn(List.of(rows));
+        leaderboard.rebuild();
+    }
+
+    private static PostIndexRow row(Long postId, Category category, LocalDateTime createdAt, int likeCount) {
+        return new PostIndexRow(postId, 1L, "content", category, Tag.CERTIFY, createdAt, likeCount);
+    }
+
+    private static List<Long> ids(List<PostLeaderboard.Score> scores) {
+        return scores.stream().map(PostLeaderboard.Score::getPostId).toList();
+    }
+
+    private static List<String> scores(List<PostLeaderboard.Score> scores) {
+        return scores.stream().map(score -> score.getPostId() + ":" + score.getLikeCount()).toList();
+    }
+}
@@ -0,0 +1,138 @@
+package com.kimgreen.backend.domain.community.search;
+
+import com.kimgreen.backend.domain.community.dto.PostIndexRow;
+import com.kimgreen.backend.domain.community.entity.Category;
+import com.kimgreen.backend.domain.community.entity.Tag;
+import com.kimgreen.backend.domain.community.event.PostDeletedEvent;
+import com.kimgreen.backend.domain.community.event.PostSavedEvent;
+import com.kimgreen.backend.domain.community.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private PostRepository postRepository;
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        index = new PostSearchIndex(postRepository);
+    }
+
+    @Test
+    void searchReturnsPostsContainingQueryNewestFirst() {
+        rebuildWith(
+                row(1L, "텀블러 사용 인증", Category.REUSABLE, Tag.CERTIFY),
+                row(2L, "장바구니 사용", Category.REUSABLE, Tag.CERTIFY),
+                row(3L, "오늘도 텀블러", Category.DAILY, Tag.DAILY));
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(ids(index.search("텀블러", null, null, null, 10))).containsExactly(3L, 1L);
+        //bigram 이 없는 한 글자 검색어는 전체 문서에서 포함 여부만 확인
+        assertThat(ids(index.search("텀", null, null, null, 10))).containsExactly(3L, 1L);
+        //bigram 은 모두 있지만 이어져 있지 않으면 결과 아님 (LIKE 와 같음)
+        assertThat(ids(index.search("사용 텀블러", null, null, null, 10))).isEmpty();
+        assertThat(ids(index.search("없는단어", null, null, null, 10))).isEmpty();
+    }
+
+    @Test
+    void searchFiltersByCategoryAndTag() {
+        rebuildWith(
+                row(1L, "텀블러 인증", Category.REUSABLE, Tag.CERTIFY),
+                row(2L, "텀블러 일상", Category.REUSABLE, Tag.DAILY),
+                row(3L, "텀블러 플로깅", Category.PLOGGING, Tag.CERTIFY));
+
+        assertThat(ids(index.search("텀블러", Category.REUSABLE, null, null, 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.search("텀블러", null, Tag.CERTIFY, null, 10))).containsExactly(3L, 1L);
+        assertThat(ids(index.search("텀블러", Category.REUSABLE, Tag.DAILY, null, 10))).containsExactly(2L);
+    }
+
+    @Test
+    void hitCursorPagesThroughResultsWithoutGapsOrDuplicates() {
+        List<PostIndexRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            rows.add(row(id, "텀블러 " + id, Category.REUSABLE, Tag.CERTIFY));
+        }
+        rebuildWith(rows.toArray(new PostIndexRow[0]));
+
+        List<PostSearchIndex.Hit> first = index.search("텀블러", null, null, null, 2);
+        List<PostSearchIndex.Hit> second = index.search("텀블러", null, null, first.get(1).toCursor(), 2);
+        List<PostSearchIndex.Hit> third = index.search("텀블러", null, null, second.get(1).toCursor(), 2);
+
+        assertThat(ids(first)).containsExactly(5L, 4L);
+        assertThat(ids(second)).containsExactly(3L, 2L);
+        assertThat(ids(third)).containsExactly(1L);
+    }
+
+    @Test
+    void savedAndDeletedEventsUpdateIndex() {
+        rebuildWith(row(1L, "텀블러 인증", Category.REUSABLE, Tag.CERTIFY));
+
+        index.onPostSaved(saved(1L, "장바구니 인증"));
+        index.onPostSaved(saved(2L, "새 텀블러"));
+        assertThat(ids(index.search("텀블러", null, null, null, 10))).containsExactly(2L);
+        assertThat(ids(index.search("장바구니", null, null, null, 10))).containsExactly(1L);
+
+        index.onPostDeleted(new PostDeletedEvent(2L, 1L, BASE.plusMinutes(2)));
+        assertThat(ids(index.search("텀블러", null, null, null, 10))).isEmpty();
+    }
+
+    @Test
+    void rebuildDoesNotResurrectPostDeletedWhileLoading() {
+        //색인을 만드는 도중 삭제 이벤트가 먼저 처리되고, 그 전에 읽힌 row 가 뒤늦게 들어오는 경우
+        when(postRepository.findIndexRows(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            index.onPostDeleted(new PostDeletedEvent(2L, 1L, BASE.plusMinutes(2)));
+            return List.of(
+                    row(1L, "텀블러 1", Category.REUSABLE, Tag.CERTIFY),
+                    row(2L, "텀블러 2", Category.REUSABLE, Tag.CERTIFY));
+        });
+
+        index.rebuild();
+
+        assertThat(ids(index.search("텀블러", null, null, null, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void rebuildDoesNotOverwriteEditMadeWhileLoading() {
+        when(postRepository.findIndexRows(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            index.onPostSaved(saved(1L, "장바구니 인증"));
+            return List.of(row(1L, "텀블러 인증", Category.REUSABLE, Tag.CERTIFY));
+        });
+
+        index.rebuild();
+
+        assertThat(ids(index.search("장바구니", null, null, null, 10))).containsExactly(1L);
+        assertThat(ids(index.search("텀블러", null, null, null, 10))).isEmpty();
+    }
+
+    private void rebuildWith(PostIndexRow... rows) {
+        when(postRepository.findIndexRows(anyLong(), any(Pageable.class))).thenReturn(List.of(rows));
+        index.rebuild();
+    }
+
+    private static PostIndexRow row(Long postId, String content, Category category, Tag tag) {
+        return new PostIndexRow(postId, 1L, content, category, tag, BASE.plusMinutes(postId), 0);
+    }
+
+    private static PostSavedEvent saved(Long postId, String content) {
+        return new PostSavedEvent(postId, 1L, content, Category.REUSABLE, Tag.CERTIFY, BASE.plusMinutes(postId));
+    }
+
+    private static List<Long> ids(List<PostSearchIndex.Hit> hits) {
+        return hits.stream().map(PostSearchIndex.Hit::getPostId).toList();
+    }
+}
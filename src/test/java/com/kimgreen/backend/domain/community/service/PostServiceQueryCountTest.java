@@ -0,0 +1,138 @@
+package com.kimgreen.backend.domain.community.service;
+
+import com.kimgreen.backend.domain.BadgeList;
+import com.kimgreen.backend.domain.community.cache.PostDetailCache;
+import com.kimgreen.backend.domain.community.dto.GetPostInfoResponseDto;
+import com.kimgreen.backend.domain.community.entity.Category;
+import com.kimgreen.backend.domain.community.entity.Likes;
+import com.kimgreen.backend.domain.community.entity.Post;
+import com.kimgreen.backend.domain.community.entity.PostImg;
+import com.kimgreen.backend.domain.community.entity.Tag;
+import com.kimgreen.backend.domain.community.ranking.PostLeaderboard;
+import com.kimgreen.backend.domain.community.repository.LikeRepository;
+import com.kimgreen.backend.domain.community.repository.PostImgRepository;
+import com.kimgreen.backend.domain.community.repository.PostRepository;
+import com.kimgreen.backend.domain.community.search.PostSearchIndex;
+import com.kimgreen.backend.domain.member.entity.Member;
+import com.kimgreen.backend.domain.member.entity.MemberProfileImg;
+import com.kimgreen.backend.domain.member.service.MemberService;
+import com.kimgreen.backend.domain.profile.entity.RepresentativeBadge;
+import com.kimgreen.backend.domain.profile.repository.BadgeRepository;
+import com.kimgreen.backend.domain.profile.repository.DailyActivityRepository;
+import com.kimgreen.backend.response.CursorPage;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 목록 한 페이지의 쿼리 수가 페이지 크기와 상관없이 일정한지 확인 (N+1 회귀 방지)
+ * H2(MySQL 모드)에 글/이미지/프로필/대표뱃지/좋아요를 넣고 Hibernate Statistics 로 prepared statement 수를 센다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:feed;MODE=MySQL;NON_KEYWORDS=DAY;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostServiceQueryCountTest {
+
+    private static final int PAGE_SIZE = 5;
+    private static final int WRITER_COUNT = 4;
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private LikeRepository likeRepository;
+
+    private PostService postService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Member viewer = em.persist(member("viewer"));
+        Member[] writers = new Member[WRITER_COUNT];
+        for (int i = 0; i < WRITER_COUNT; i++) {
+            writers[i] = em.persist(member("writer" + i));
+            em.persist(MemberProfileImg.builder().member(writers[i]).imgUrl("profile/" + i + ".png").title(i + ".png").build());
+            em.persist(RepresentativeBadge.builder().member(writers[i]).representativeBadge(BadgeList.MENTOR).build());
+        }
+        //두 페이지(2N) 를 채우고도 다음 페이지가 남도록
+        for (int i = 0; i < PAGE_SIZE * 2 + 1; i++) {
+            Post post = em.persist(Post.builder()
+                    .member(writers[i % WRITER_COUNT])
+                    .content("post " + i)
+                    .category(Category.values()[i % Category.values().length])
+                    .tag(Tag.CERTIFY)
+                    .build());
+            em.persist(PostImg.builder().post(post).imgUrl("post/" + i + ".png").title(i + ".png").build());
+            if (i % 2 == 0) {
+                em.persist(Likes.builder().post(post).member(viewer).build());
+            }
+        }
+        em.flush();
+        em.clear();
+
+        MemberService memberService = mock(MemberService.class);
+        when(memberService.getCurrentMember()).thenReturn(viewer);
+        postService = new PostService(mock(S3Service.class), memberService, postRepository,
+                mock(PostImgRepository.class), mock(BadgeRepository.class),
+                new ViewerContext(memberService, likeRepository),
+                mock(PostSearchIndex.class), mock(PostLeaderboard.class), mock(PostDetailCache.class),
+                mock(ApplicationEventPublisher.class), mock(TransactionTemplate.class),
+                mock(UploadTicketService.class), mock(DailyActivityRepository.class));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void pageOfNAndPageOf2NIssueSameNumberOfStatements() {
+        long smallPage = statementsFor(PAGE_SIZE);
+        long largePage = statementsFor(PAGE_SIZE * 2);
+
+        assertThat(largePage).isEqualTo(smallPage);
+        //목록 row 조회 1번 + viewer 좋아요 IN 조회 1번
+        assertThat(smallPage).isEqualTo(2);
+    }
+
+    private long statementsFor(int size) {
+        em.clear();
+        statistics.clear();
+
+        CursorPage<GetPostInfoResponseDto> page = postService.getPostPage(null, null, null, null, size);
+
+        assertThat(page.getContents()).hasSize(size);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getContents()).allSatisfy(post -> {
+            assertThat(post.getWriterBadge()).isEqualTo(BadgeList.MENTOR.name);
+            assertThat(post.getIsLiked()).isEqualTo(Integer.parseInt(post.getContent().substring(5)) % 2 == 0);
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Member member(String nickname) {
+        return Member.builder()
+                .email(nickname + "@kimgreen.com")
+                .password("password")
+                .nickname(nickname)
+                .build();
+    }
+}
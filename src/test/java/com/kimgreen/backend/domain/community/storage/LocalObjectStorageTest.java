@@ -0,0 +1,137 @@
+package com.kimgreen.backend.domain.community.storage;
+
+import com.kimgreen.backend.exception.StoredObjectNotFound;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalObjectStorageTest {
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new LocalObjectStorage(root.toString(), "/storage/", "test-signing-key");
+    }
+
+    @Test
+    void putWritesObjectWithoutLeavingTempFile() throws IOException {
+        put("post/a.png", "image");
+
+        assertThat(read("post/a.png")).isEqualTo("image");
+        try (var files = Files.list(root.resolve("post"))) {
+            assertThat(files.map(path -> path.getFileName().toString()).toList()).containsExactly("a.png");
+        }
+    }
+
+    @Test
+    void putReplacesExistingObject() throws IOException {
+        put("post/a.png", "old");
+        put("post/a.png", "new");
+
+        assertThat(read("post/a.png")).isEqualTo("new");
+    }
+
+    @Test
+    void keysOutsideRootAreRejected() {
+        assertThatThrownBy(() -> storage.open("../outside.png")).isInstanceOf(StoredObjectNotFound.class);
+        assertThatThrownBy(() -> storage.open("post/../../outside.png")).isInstanceOf(StoredObjectNotFound.class);
+        assertThatThrownBy(() -> storage.open("")).isInstanceOf(StoredObjectNotFound.class);
+        //업로드 중인 임시 파일은 읽을 수 없음
+        assertThatThrownBy(() -> storage.open("post/a.png.uploading")).isInstanceOf(StoredObjectNotFound.class);
+    }
+
+    @Test
+    void openMissingObjectThrowsNotFound() {
+        assertThatThrownBy(() -> storage.open("post/missing.png")).isInstanceOf(StoredObjectNotFound.class);
+    }
+
+    @Test
+    void batchDeleteRemovesObjectsAndIgnoresMissingOnes() throws IOException {
+        put("post/a.png", "a");
+        put("post/b.png", "b");
+
+        List<String> failed = storage.batchDelete(List.of("post/a.png", "post/b.png", "post/missing.png"));
+
+        assertThat(failed).isEmpty();
+        assertThat(root.resolve("post/a.png")).doesNotExist();
+        assertThat(root.resolve("post/b.png")).doesNotExist();
+    }
+
+    @Test
+    void urlEncodesKeyUnderBaseUrl() {
+        assertThat(storage.url("post/a b.png")).isEqualTo("/storage/post/a%20b.png");
+    }
+
+    @Test
+    void presignedPutUrlIsAcceptedOnlyForSameKeyAndExpiry() {
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        MultiValueMap<String, String> params = queryParams(storage.presignedPutUrl("post/a.png", "image/png", expiresAt));
+        long expires = Long.parseLong(params.getFirst("expires"));
+        String signature = params.getFirst("signature");
+
+        assertThat(expires).isEqualTo(expiresAt.getEpochSecond());
+        assertThat(storage.isValidUpload("post/a.png", expires, signature)).isTrue();
+        assertThat(storage.isValidUpload("post/b.png", expires, signature)).isFalse();
+        assertThat(storage.isValidUpload("post/a.png", expires + 60, signature)).isFalse();
+        assertThat(storage.isValidUpload("post/a.png", expires, signature.toUpperCase())).isFalse();
+        assertThat(storage.isValidUpload("post/a.png", expires, null)).isFalse();
+    }
+
+    @Test
+    void expiredUploadUrlIsRejected() {
+        Instant expiresAt = Instant.now().minusSeconds(1);
+        MultiValueMap<String, String> params = queryParams(storage.presignedPutUrl("post/a.png", "image/png", expiresAt));
+
+        assertThat(storage.isValidUpload("post/a.png", expiresAt.getEpochSecond(), params.getFirst("signature"))).isFalse();
+    }
+
+    @Test
+    void uploadUrlSignedWithAnotherKeyIsRejected() throws IOException {
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        LocalObjectStorage other = new LocalObjectStorage(root.toString(), "/storage/", "other-signing-key");
+        MultiValueMap<String, String> params = queryParams(other.presignedPutUrl("post/a.png", "image/png", expiresAt));
+
+        assertThat(storage.isValidUpload("post/a.png", expiresAt.getEpochSecond(), params.getFirst("signature"))).isFalse();
+    }
+
+    @Test
+    void sizeReturnsMinusOneForMissingObject() throws IOException {
+        put("post/a.png", "image");
+
+        assertThat(storage.size("post/a.png")).isEqualTo(5);
+        assertThat(storage.size("post/missing.png")).isEqualTo(-1);
+    }
+
+    private static MultiValueMap<String, String> queryParams(String url) {
+        return UriComponentsBuilder.fromUriString(url).build().getQueryParams();
+    }
+
+    private void put(String key, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        storage.put(key, new ByteArrayInputStream(bytes), bytes.length, "image/png");
+    }
+
+    private String read(String key) throws IOException {
+        try (InputStream inputStream = storage.get(key)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.kimgreen.backend.domain.notification.push;
+
+import com.kimgreen.backend.domain.notification.repository.FCMTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PushDispatcherTest {
+
+    private static final Duration BATCH_WINDOW = Duration.ofMillis(50);
+    private static final Duration BASE_BACKOFF = Duration.ofMillis(10);
+    private static final int MAX_ATTEMPTS = 3;
+
+    private MeterRegistry meterRegistry;
+    private FCMTokenRepository fcmTokenRepository;
+    private Set<String> deletedTokens;
+    private PushDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        fcmTokenRepository = mock(FCMTokenRepository.class);
+        deletedTokens = ConcurrentHashMap.newKeySet();
+        when(fcmTokenRepository.deleteByFcmTokenIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> tokens = invocation.getArgument(0);
+            deletedTokens.addAll(tokens);
+            return tokens.size();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void messagesAreSentInBatchesOfAtMost500AndInvalidTokensAreDeleted() {
+        FakePushSender sender = new FakePushSender(Duration.ZERO);
+        dispatcher = dispatcher(sender, 10000);
+
+        int total = 1200;
+        Set<String> invalidTokens = new HashSet<>();
+        for (int i = 0; i < total; i++) {
+            String token = (i % 100 == 0 ? "invalid-" : "token-") + i;
+            if (token.startsWith("invalid")) {
+                invalidTokens.add(token);
+            }
+            dispatcher.enqueue(message(token));
+        }
+
+        //토큰 삭제는 배치 결과를 센 다음에 일어나므로 삭제까지 기다림
+        await(() -> count("sent") + count("invalid_token") == total && deletedTokens.size() == invalidTokens.size());
+
+        assertThat(count("sent")).isEqualTo(total - invalidTokens.size());
+        assertThat(sender.getDelivered()).isEqualTo(total - invalidTokens.size());
+        assertThat(meterRegistry.get("push.batch.size").summary().max()).isLessThanOrEqualTo(PushSender.MAX_BATCH_SIZE);
+        assertThat(sender.getBatches()).isGreaterThanOrEqualTo(3).isLessThan(total);
+        assertThat(deletedTokens).isEqualTo(invalidTokens);
+    }
+
+    @Test
+    void retryableFailuresAreRetriedUntilMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+        dispatcher = dispatcher(messages -> {
+            calls.incrementAndGet();
+            return messages.stream().map(message -> PushResult.RETRYABLE).toList();
+        }, 10000);
+
+        dispatcher.enqueue(message("token"));
+
+        await(() -> count("failed") == 1);
+        assertThat(calls.get()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(count("retried")).isEqualTo(MAX_ATTEMPTS - 1);
+        assertThat(count("sent")).isZero();
+        verify(fcmTokenRepository, never()).deleteByFcmTokenIn(anyCollection());
+    }
+
+    @Test
+    void failedBatchRequestIsRetriedAsAWhole() {
+        FakePushSender fake = new FakePushSender(Duration.ZERO);
+        AtomicInteger firstBatch = new AtomicInteger();
+        dispatcher = dispatcher(messages -> {
+            if (firstBatch.compareAndSet(0, messages.size())) {
+                throw new IllegalStateException("fcm unavailable");
+            }
+            return fake.sendAll(messages);
+        }, 10000);
+
+        for (int i = 0; i < 10; i++) {
+            dispatcher.enqueue(message("token-" + i));
+        }
+
+        await(() -> count("sent") == 10);
+        //실패한 요청에 들어 있던 메시지만 전부 다시 보냄
+        assertThat(count("retried")).isEqualTo(firstBatch.get());
+        assertThat(count("failed")).isZero();
+    }
+
+    @Test
+    void messagesAreDroppedWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher = dispatcher(messages -> {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return messages.stream().map(message -> PushResult.SUCCESS).toList();
+        }, 1);
+
+        //첫 메시지를 보내는 동안 큐(용량 1)가 차면 나머지는 버림
+        dispatcher.enqueue(message("token-0"));
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.enqueue(message("token-1"));
+        dispatcher.enqueue(message("token-2"));
+        release.countDown();
+
+        await(() -> count("sent") == 2);
+        assertThat(count("dropped")).isEqualTo(1);
+    }
+
+    private PushDispatcher dispatcher(PushSender sender, int queueCapacity) {
+        return new PushDispatcher(sender, fcmTokenRepository, meterRegistry,
+                BATCH_WINDOW, queueCapacity, BASE_BACKOFF, MAX_ATTEMPTS);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("push.messages").tag("result", result).counter().count();
+    }
+
+    private static PushMessage message(String token) {
+        return new PushMessage(token, "title", "body", Map.of());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met within 5 seconds");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
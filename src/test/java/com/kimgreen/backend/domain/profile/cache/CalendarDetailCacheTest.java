@@ -0,0 +1,143 @@
+package com.kimgreen.backend.domain.profile.cache;
+
+import com.kimgreen.backend.domain.community.dto.PostRowDto;
+import com.kimgreen.backend.domain.community.entity.Category;
+import com.kimgreen.backend.domain.community.entity.Tag;
+import com.kimgreen.backend.domain.community.event.CommentChangedEvent;
+import com.kimgreen.backend.domain.community.event.PostDeletedEvent;
+import com.kimgreen.backend.domain.community.event.PostLikedEvent;
+import com.kimgreen.backend.domain.community.event.PostSavedEvent;
+import com.kimgreen.backend.domain.member.event.MemberProfileChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarDetailCacheTest {
+
+    private static final Long MEMBER = 1L;
+    private static final Long OTHER_MEMBER = 2L;
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+    private static final LocalDate OTHER_DAY = DAY.plusDays(1);
+
+    private MeterRegistry meterRegistry;
+    private CalendarDetailCache cache;
+    //(회원, 날짜) 별 loader 호출 수
+    private Map<CalendarDetailCache.Key, Integer> loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CalendarDetailCache(meterRegistry, 100, Duration.ofHours(1));
+        loads = new HashMap<>();
+    }
+
+    @Test
+    void rowsAreLoadedOncePerMemberAndDay() {
+        List<PostRowDto> first = get(MEMBER, DAY, 10L);
+        List<PostRowDto> second = get(MEMBER, DAY, 10L);
+        get(MEMBER, OTHER_DAY, 11L);
+        get(OTHER_MEMBER, DAY, 12L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads(MEMBER, DAY)).isEqualTo(1);
+        assertThat(loads(MEMBER, OTHER_DAY)).isEqualTo(1);
+        assertThat(loads(OTHER_MEMBER, DAY)).isEqualTo(1);
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "calendar.detail").meters()).isNotEmpty();
+    }
+
+    @Test
+    void savedPostInvalidatesOnlyWritersDay() {
+        loadAll();
+
+        cache.onPostSaved(new PostSavedEvent(20L, MEMBER, "content", Category.REUSABLE, Tag.CERTIFY, DAY.atTime(12, 0)));
+        loadAll();
+
+        assertThat(loads(MEMBER, DAY)).isEqualTo(2);
+        assertThat(loads(MEMBER, OTHER_DAY)).isEqualTo(1);
+        assertThat(loads(OTHER_MEMBER, DAY)).isEqualTo(1);
+    }
+
+    @Test
+    void deletedPostInvalidatesItsDay() {
+        loadAll();
+
+        cache.onPostDeleted(new PostDeletedEvent(10L, MEMBER, DAY.atTime(9, 0)));
+        loadAll();
+
+        assertThat(loads(MEMBER, DAY)).isEqualTo(2);
+        assertThat(loads(MEMBER, OTHER_DAY)).isEqualTo(1);
+    }
+
+    @Test
+    void likeAndCommentInvalidateTheDayHoldingThePost() {
+        loadAll();
+
+        cache.onPostLiked(new PostLikedEvent(11L, 1, MEMBER, OTHER_DAY.atTime(9, 0)));
+        loadAll();
+        assertThat(loads(MEMBER, OTHER_DAY)).isEqualTo(2);
+        assertThat(loads(MEMBER, DAY)).isEqualTo(1);
+
+        //댓글 작성자가 아니라 글 작성자의 항목을 지움
+        cache.onCommentChanged(new CommentChangedEvent(12L, MEMBER, OTHER_MEMBER, DAY.atTime(9, 0)));
+        loadAll();
+        assertThat(loads(OTHER_MEMBER, DAY)).isEqualTo(2);
+        assertThat(loads(MEMBER, DAY)).isEqualTo(1);
+    }
+
+    @Test
+    void eventsForUncachedDaysInvalidateNothing() {
+        loadAll();
+
+        LocalDateTime uncachedDay = DAY.plusDays(10).atTime(9, 0);
+        cache.onPostLiked(new PostLikedEvent(999L, 1, MEMBER, uncachedDay));
+        cache.onCommentChanged(new CommentChangedEvent(999L, OTHER_MEMBER, MEMBER, uncachedDay));
+        loadAll();
+
+        assertThat(loads.values()).containsOnly(1);
+    }
+
+    @Test
+    void profileChangeInvalidatesEveryDayOfThatMember() {
+        loadAll();
+
+        cache.onMemberProfileChanged(new MemberProfileChangedEvent(MEMBER));
+        loadAll();
+
+        assertThat(loads(MEMBER, DAY)).isEqualTo(2);
+        assertThat(loads(MEMBER, OTHER_DAY)).isEqualTo(2);
+        assertThat(loads(OTHER_MEMBER, DAY)).isEqualTo(1);
+    }
+
+    //MEMBER 의 DAY(10번 글), OTHER_DAY(11번 글), OTHER_MEMBER 의 DAY(12번 글)
+    private void loadAll() {
+        get(MEMBER, DAY, 10L);
+        get(MEMBER, OTHER_DAY, 11L);
+        get(OTHER_MEMBER, DAY, 12L);
+    }
+
+    private List<PostRowDto> get(Long memberId, LocalDate day, Long postId) {
+        return cache.get(memberId, day, key -> {
+            loads.merge(key, 1, Integer::sum);
+            return List.of(row(postId, memberId, day));
+        });
+    }
+
+    private int loads(Long memberId, LocalDate day) {
+        return loads.getOrDefault(new CalendarDetailCache.Key(memberId, day), 0);
+    }
+
+    private static PostRowDto row(Long postId, Long writerId, LocalDate day) {
+        return new PostRowDto(postId, "content", Category.REUSABLE, Tag.CERTIFY, day.atTime(9, 0), day.atTime(9, 0),
+                writerId, "nickname", "profile.png", null, null, null, null, 0, 0);
+    }
+}